@@ -0,0 +1,70 @@
+package com.github.rkumsher.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.rkumsher.collection.ArrayUtils;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArrayShuffleBenchmark {
+
+  @Param({"1000000", "16000000"})
+  private int size;
+
+  private int[] array;
+
+  @Setup
+  public void setUp() {
+    array = new int[size];
+    for (int i = 0; i < size; i++) {
+      array[i] = i;
+    }
+  }
+
+  @Benchmark
+  public int[] shuffle() {
+    ArrayUtils.shuffle(array);
+    return array;
+  }
+
+  @Benchmark
+  public int[] partialShuffleOfOnePercent() {
+    ArrayUtils.partialShuffle(array, size / 100);
+    return array;
+  }
+
+  @Benchmark
+  public int[] parallelShuffle() {
+    ArrayUtils.parallelShuffle(array);
+    return array;
+  }
+
+  @Benchmark
+  public List<Integer> collectionsShuffleOfBoxedList() {
+    List<Integer> list = new ArrayList<>(size);
+    for (int element : array) {
+      list.add(element);
+    }
+    Collections.shuffle(list);
+    return list;
+  }
+}
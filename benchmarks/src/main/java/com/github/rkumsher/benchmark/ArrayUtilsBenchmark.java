@@ -0,0 +1,67 @@
+package com.github.rkumsher.benchmark;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.rkumsher.collection.ArrayUtils;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArrayUtilsBenchmark {
+
+  @Param({"16", "100000"})
+  private int size;
+
+  @Param({"1", "100"})
+  private int excludeCount;
+
+  private Integer[] array;
+  private List<Integer> excludes;
+  private int[] intArray;
+  private int[] intExcludes;
+
+  @Setup
+  public void setUp() {
+    array = Inputs.integers(size).toArray(new Integer[0]);
+    excludes = Inputs.spread(Math.min(excludeCount, size - 1), size);
+    intArray = Arrays.stream(array).mapToInt(Integer::intValue).toArray();
+    intExcludes = excludes.stream().mapToInt(Integer::intValue).toArray();
+  }
+
+  @Benchmark
+  public Integer randomFrom() {
+    return ArrayUtils.randomFrom(array);
+  }
+
+  @Benchmark
+  public Integer randomFromWithExcludes() {
+    return ArrayUtils.randomFrom(array, excludes);
+  }
+
+  @Benchmark
+  public int randomFromIntArrayWithExcludes() {
+    return ArrayUtils.randomFrom(intArray, intExcludes);
+  }
+
+  @Benchmark
+  public boolean containsAll() {
+    return ArrayUtils.containsAll(array, excludes);
+  }
+}
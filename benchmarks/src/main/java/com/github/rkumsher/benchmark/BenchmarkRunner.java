@@ -0,0 +1,43 @@
+package com.github.rkumsher.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks once for every thread count in the <code>threads</code> system property
+ * (defaults to <code>1</code> and the number of available processors) with the {@link GCProfiler}
+ * enabled, so contention and allocation regressions both show up in the results.
+ *
+ * <pre>
+ *   java -Dthreads=1,8,64 -jar target/benchmarks.jar IterableUtilsBenchmark
+ * </pre>
+ *
+ * <p>All other arguments are passed on to JMH.
+ */
+public final class BenchmarkRunner {
+
+  private BenchmarkRunner() {}
+
+  public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+    CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+    for (String threads : threadCounts()) {
+      Options options =
+          new OptionsBuilder()
+              .parent(commandLineOptions)
+              .threads(Integer.parseInt(threads.trim()))
+              .addProfiler(GCProfiler.class)
+              .build();
+      new Runner(options).run();
+    }
+  }
+
+  private static String[] threadCounts() {
+    String defaultThreadCounts = "1," + Runtime.getRuntime().availableProcessors();
+    return System.getProperty("threads", defaultThreadCounts).split(",");
+  }
+}
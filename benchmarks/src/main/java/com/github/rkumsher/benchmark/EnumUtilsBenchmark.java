@@ -0,0 +1,48 @@
+package com.github.rkumsher.benchmark;
+
+import java.time.DayOfWeek;
+import java.time.Month;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.rkumsher.enums.EnumUtils;
+import com.github.rkumsher.enums.RandomEnumUtils;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EnumUtilsBenchmark {
+
+  @Benchmark
+  public Optional<Month> getIfPresent() {
+    return EnumUtils.getIfPresent(Month.class, "JUNE");
+  }
+
+  @Benchmark
+  public Optional<Month> getIfPresentWhenAbsent() {
+    return EnumUtils.getIfPresent(Month.class, "SMARCH");
+  }
+
+  @Benchmark
+  public Month random() {
+    return RandomEnumUtils.random(Month.class);
+  }
+
+  @Benchmark
+  public DayOfWeek randomWithExcludes() {
+    return RandomEnumUtils.random(DayOfWeek.class, DayOfWeek.SATURDAY, DayOfWeek.SUNDAY);
+  }
+}
@@ -0,0 +1,39 @@
+package com.github.rkumsher.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedList;
+
+import com.google.common.collect.ImmutableSet;
+
+/** Shapes of input collections the benchmarks are parameterized over. */
+public enum InputShape {
+  ARRAY_LIST {
+    @Override
+    <T> Collection<T> copyOf(Collection<T> elements) {
+      return new ArrayList<>(elements);
+    }
+  },
+  LINKED_LIST {
+    @Override
+    <T> Collection<T> copyOf(Collection<T> elements) {
+      return new LinkedList<>(elements);
+    }
+  },
+  HASH_SET {
+    @Override
+    <T> Collection<T> copyOf(Collection<T> elements) {
+      return new HashSet<>(elements);
+    }
+  },
+  IMMUTABLE_SET {
+    @Override
+    <T> Collection<T> copyOf(Collection<T> elements) {
+      return ImmutableSet.copyOf(elements);
+    }
+  };
+
+  /** Returns a collection of this shape containing the given elements. */
+  abstract <T> Collection<T> copyOf(Collection<T> elements);
+}
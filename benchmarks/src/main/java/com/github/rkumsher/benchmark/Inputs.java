@@ -0,0 +1,29 @@
+package com.github.rkumsher.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/** Factory methods for benchmark inputs. */
+final class Inputs {
+
+  private Inputs() {}
+
+  /** Returns the integers from zero (inclusive) to size (exclusive). */
+  static List<Integer> integers(int size) {
+    List<Integer> integers = new ArrayList<>(size);
+    for (int i = 0; i < size; i++) {
+      integers.add(i);
+    }
+    return integers;
+  }
+
+  /** Returns every step-th integer from zero (inclusive) to size (exclusive). */
+  static List<Integer> spread(int count, int size) {
+    List<Integer> integers = new ArrayList<>(count);
+    int step = Math.max(1, size / Math.max(1, count));
+    for (int i = 0; i < count && i * step < size; i++) {
+      integers.add(i * step);
+    }
+    return integers;
+  }
+}
@@ -0,0 +1,66 @@
+package com.github.rkumsher.benchmark;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.rkumsher.collection.IterableUtils;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IterableUtilsBenchmark {
+
+  @Param({"ARRAY_LIST", "LINKED_LIST", "HASH_SET", "IMMUTABLE_SET"})
+  private InputShape shape;
+
+  @Param({"16", "100000"})
+  private int size;
+
+  @Param({"1", "100"})
+  private int excludeCount;
+
+  private Collection<Integer> iterable;
+  private List<Integer> excludes;
+
+  @Setup
+  public void setUp() {
+    iterable = shape.copyOf(Inputs.integers(size));
+    excludes = Inputs.spread(Math.min(excludeCount, size - 1), size);
+  }
+
+  @Benchmark
+  public Integer randomFrom() {
+    return IterableUtils.randomFrom(iterable);
+  }
+
+  @Benchmark
+  public Integer randomFromWithExcludes() {
+    return IterableUtils.randomFrom(iterable, excludes);
+  }
+
+  @Benchmark
+  public boolean containsAll() {
+    return IterableUtils.containsAll(iterable, excludes);
+  }
+
+  @Benchmark
+  public boolean parallelContainsAll() {
+    return IterableUtils.parallelContainsAll(iterable, excludes);
+  }
+}
@@ -0,0 +1,75 @@
+package com.github.rkumsher.benchmark;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.rkumsher.collection.RandomArrayUtils;
+import com.github.rkumsher.number.RandomNumberUtils;
+import com.google.common.collect.Range;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RandomArrayUtilsBenchmark {
+
+  @Param({"ARRAY_LIST", "LINKED_LIST", "HASH_SET", "IMMUTABLE_SET"})
+  private InputShape shape;
+
+  @Param({"16", "100000"})
+  private int poolSize;
+
+  @Param({"100", "10000"})
+  private int size;
+
+  private final Supplier<Integer> supplier = RandomNumberUtils::randomInt;
+
+  private Collection<Integer> pool;
+  private Range<Integer> sizeRange;
+
+  @Setup
+  public void setUp() {
+    pool = shape.copyOf(Inputs.integers(poolSize));
+    sizeRange = Range.closed(0, size);
+  }
+
+  @Benchmark
+  public Object[] randomArrayFromIterable() {
+    return RandomArrayUtils.randomArrayFrom(pool, size);
+  }
+
+  @Benchmark
+  public Object[] randomArrayFromSupplier() {
+    return RandomArrayUtils.randomArrayFrom(supplier, size);
+  }
+
+  @Benchmark
+  public Integer[] randomTypedArrayFromSupplier() {
+    return RandomArrayUtils.randomArrayFrom(supplier, size, Integer[]::new);
+  }
+
+  @Benchmark
+  public Integer[] parallelRandomTypedArrayFromSupplier() {
+    return RandomArrayUtils.parallelRandomArrayFrom(supplier, size, Integer[]::new);
+  }
+
+  @Benchmark
+  public Object[] randomArrayFromSupplierWithSizeRange() {
+    return RandomArrayUtils.randomArrayFrom(supplier, sizeRange);
+  }
+}
@@ -0,0 +1,107 @@
+package com.github.rkumsher.benchmark;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.rkumsher.collection.RandomCollectionUtils;
+import com.github.rkumsher.number.RandomNumberUtils;
+import com.google.common.collect.Range;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RandomCollectionUtilsBenchmark {
+
+  @Param({"ARRAY_LIST", "LINKED_LIST", "HASH_SET", "IMMUTABLE_SET"})
+  private InputShape shape;
+
+  @Param({"16", "100000"})
+  private int poolSize;
+
+  @Param({"100", "10000"})
+  private int size;
+
+  private final Supplier<Integer> supplier = RandomNumberUtils::randomInt;
+
+  private Collection<Integer> pool;
+  private Range<Integer> sizeRange;
+
+  @Setup
+  public void setUp() {
+    pool = shape.copyOf(Inputs.integers(poolSize));
+    sizeRange = Range.closed(0, size);
+  }
+
+  @Benchmark
+  public List<Integer> randomListFromIterable() {
+    return RandomCollectionUtils.randomListFrom(pool, size);
+  }
+
+  @Benchmark
+  public List<Integer> parallelRandomListFromIterable() {
+    return RandomCollectionUtils.parallelRandomListFrom(pool, size);
+  }
+
+  @Benchmark
+  public Set<Integer> randomSetFromIterable() {
+    return RandomCollectionUtils.randomSetFrom(pool, size);
+  }
+
+  @Benchmark
+  public List<Integer> randomSampleFromIterable() {
+    return RandomCollectionUtils.randomSampleFrom(pool, Math.min(size, poolSize));
+  }
+
+  @Benchmark
+  public List<Integer> randomListFromSupplier() {
+    return RandomCollectionUtils.randomListFrom(supplier, size);
+  }
+
+  @Benchmark
+  public List<Integer> randomImmutableListFromSupplier() {
+    return RandomCollectionUtils.randomImmutableListFrom(supplier, size);
+  }
+
+  @Benchmark
+  public List<Integer> parallelRandomListFromSupplier() {
+    return RandomCollectionUtils.parallelRandomListFrom(supplier, size);
+  }
+
+  @Benchmark
+  public List<Integer> randomListFromSupplierWithSizeRange() {
+    return RandomCollectionUtils.randomListFrom(supplier, sizeRange);
+  }
+
+  @Benchmark
+  public Set<Integer> randomSetFromSupplier() {
+    return RandomCollectionUtils.randomSetFrom(supplier, size);
+  }
+
+  @Benchmark
+  public Set<Integer> randomDistinctSetFromSupplier() {
+    return RandomCollectionUtils.randomDistinctSetFrom(supplier, size);
+  }
+
+  @Benchmark
+  public Set<Integer> parallelRandomDistinctSetFromSupplier() {
+    return RandomCollectionUtils.parallelRandomDistinctSetFrom(supplier, size);
+  }
+}
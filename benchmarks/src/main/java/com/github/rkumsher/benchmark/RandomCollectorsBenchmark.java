@@ -0,0 +1,59 @@
+package com.github.rkumsher.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.rkumsher.collection.RandomCollectionUtils;
+import com.github.rkumsher.collection.RandomCollectors;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RandomCollectorsBenchmark {
+
+  @Param({"1000000"})
+  private int size;
+
+  @Param({"100"})
+  private int sampleSize;
+
+  @Benchmark
+  public List<Integer> reservoirSample() {
+    return IntStream.range(0, size).boxed().collect(RandomCollectors.reservoirSample(sampleSize));
+  }
+
+  @Benchmark
+  public List<Integer> parallelReservoirSample() {
+    return IntStream.range(0, size)
+        .boxed()
+        .parallel()
+        .collect(RandomCollectors.reservoirSample(sampleSize));
+  }
+
+  @Benchmark
+  public int[] reservoirSampleOfIntStream() {
+    return RandomCollectors.reservoirSample(IntStream.range(0, size), sampleSize);
+  }
+
+  @Benchmark
+  public List<Integer> collectToListThenSample() {
+    List<Integer> all = IntStream.range(0, size).boxed().collect(Collectors.toList());
+    return RandomCollectionUtils.randomSampleFrom(all, sampleSize);
+  }
+}
@@ -0,0 +1,128 @@
+package com.github.rkumsher.benchmark;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.rkumsher.date.RandomDateRange;
+import com.github.rkumsher.date.RandomDateUtils;
+import com.github.rkumsher.number.RandomNumberUtils;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RandomDateUtilsBenchmark {
+
+  private final Instant startInstant = Instant.parse("2000-01-01T00:00:00Z");
+  private final Instant endInstant = Instant.parse("2030-01-01T00:00:00Z");
+  private final LocalDate startLocalDate = LocalDate.of(2000, 1, 1);
+  private final LocalDate endLocalDate = LocalDate.of(2030, 1, 1);
+  private final LocalTime startLocalTime = LocalTime.of(9, 0);
+  private final LocalTime endLocalTime = LocalTime.of(17, 0);
+  private final YearMonth startYearMonth = YearMonth.of(2000, 1);
+  private final YearMonth endYearMonth = YearMonth.of(2030, 1);
+  private final RandomDateRange<Instant> instantRange =
+      RandomDateUtils.instantRange(startInstant, endInstant);
+  private final RandomDateRange<LocalDate> localDateRange =
+      RandomDateUtils.localDateRange(startLocalDate, endLocalDate);
+
+  @Benchmark
+  public Instant randomInstant() {
+    return RandomDateUtils.randomInstant();
+  }
+
+  @Benchmark
+  public Instant randomInstantInRange() {
+    return RandomDateUtils.randomInstant(startInstant, endInstant);
+  }
+
+  @Benchmark
+  public Instant randomInstantInRangePlusNanos() {
+    return RandomDateUtils.randomInstant(startInstant, endInstant)
+        .plusNanos(RandomNumberUtils.randomInt(0, 1_000_000));
+  }
+
+  @Benchmark
+  public Instant randomNanoInstantInRange() {
+    return RandomDateUtils.randomInstant(startInstant, endInstant, ChronoUnit.NANOS);
+  }
+
+  @Benchmark
+  public Instant randomNanoInstantInFullRange() {
+    return RandomDateUtils.randomInstant(Instant.MIN, Instant.MAX, ChronoUnit.NANOS);
+  }
+
+  @Benchmark
+  public Instant instantRangeNext() {
+    return instantRange.next();
+  }
+
+  @Benchmark
+  public ZonedDateTime randomZonedDateTime() {
+    return RandomDateUtils.randomZonedDateTime();
+  }
+
+  @Benchmark
+  public LocalDateTime randomLocalDateTime() {
+    return RandomDateUtils.randomLocalDateTime();
+  }
+
+  @Benchmark
+  public LocalDate randomLocalDate() {
+    return RandomDateUtils.randomLocalDate();
+  }
+
+  @Benchmark
+  public LocalDate randomLocalDateInRange() {
+    return RandomDateUtils.randomLocalDate(startLocalDate, endLocalDate);
+  }
+
+  @Benchmark
+  public LocalDate localDateRangeNext() {
+    return localDateRange.next();
+  }
+
+  @Benchmark
+  public LocalTime randomLocalTime() {
+    return RandomDateUtils.randomLocalTime();
+  }
+
+  @Benchmark
+  public LocalTime randomLocalTimeInRange() {
+    return RandomDateUtils.randomLocalTime(startLocalTime, endLocalTime);
+  }
+
+  @Benchmark
+  public YearMonth randomYearMonth() {
+    return RandomDateUtils.randomYearMonth();
+  }
+
+  @Benchmark
+  public YearMonth randomYearMonthInRange() {
+    return RandomDateUtils.randomYearMonth(startYearMonth, endYearMonth);
+  }
+
+  @Benchmark
+  public Year randomYear() {
+    return RandomDateUtils.randomYear();
+  }
+}
@@ -0,0 +1,82 @@
+package com.github.rkumsher.benchmark;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.rkumsher.date.RandomDateUtils;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RandomDateUtilsBulkBenchmark {
+
+  private final Instant startInstant = Instant.parse("2000-01-01T00:00:00Z");
+  private final Instant endInstant = Instant.parse("2030-01-01T00:00:00Z");
+  private final LocalDate startLocalDate = LocalDate.of(2000, 1, 1);
+  private final LocalDate endLocalDate = LocalDate.of(2030, 1, 1);
+
+  @Param({"1000", "1000000"})
+  private int size;
+
+  private long[] epochMillis;
+
+  @Setup
+  public void setUp() {
+    epochMillis = new long[size];
+  }
+
+  @Benchmark
+  public Instant[] randomInstantLoop() {
+    Instant[] instants = new Instant[size];
+    for (int i = 0; i < size; i++) {
+      instants[i] = RandomDateUtils.randomInstant(startInstant, endInstant);
+    }
+    return instants;
+  }
+
+  @Benchmark
+  public Instant[] randomInstants() {
+    return RandomDateUtils.randomInstants(size, startInstant, endInstant);
+  }
+
+  @Benchmark
+  public Instant[] parallelRandomInstants() {
+    return RandomDateUtils.parallelRandomInstants(size, startInstant, endInstant);
+  }
+
+  @Benchmark
+  public long[] randomEpochMillis() {
+    RandomDateUtils.randomEpochMillis(epochMillis, startInstant, endInstant);
+    return epochMillis;
+  }
+
+  @Benchmark
+  public LocalDate[] randomLocalDateLoop() {
+    LocalDate[] localDates = new LocalDate[size];
+    for (int i = 0; i < size; i++) {
+      localDates[i] = RandomDateUtils.randomLocalDate(startLocalDate, endLocalDate);
+    }
+    return localDates;
+  }
+
+  @Benchmark
+  public LocalDate[] randomLocalDates() {
+    return RandomDateUtils.randomLocalDates(size, startLocalDate, endLocalDate);
+  }
+}
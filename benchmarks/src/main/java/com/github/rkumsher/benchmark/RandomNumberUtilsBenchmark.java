@@ -0,0 +1,73 @@
+package com.github.rkumsher.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.rkumsher.number.RandomNumberUtils;
+
+/**
+ * Benchmarks of the bounded draws of {@link RandomNumberUtils}. None of them should allocate, so
+ * <code>gc.alloc.rate.norm</code> must report (approximately) zero bytes per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RandomNumberUtilsBenchmark {
+
+  @Benchmark
+  public int randomInt() {
+    return RandomNumberUtils.randomInt();
+  }
+
+  @Benchmark
+  public int randomIntSmallRange() {
+    return RandomNumberUtils.randomInt(-1000, 1000);
+  }
+
+  @Benchmark
+  public int randomIntNearlyFullRange() {
+    return RandomNumberUtils.randomInt(Integer.MIN_VALUE + 1, Integer.MAX_VALUE);
+  }
+
+  @Benchmark
+  public int randomIntLargeRange() {
+    return RandomNumberUtils.randomInt(0, (1 << 30) + 1);
+  }
+
+  @Benchmark
+  public long randomLong() {
+    return RandomNumberUtils.randomLong();
+  }
+
+  @Benchmark
+  public long randomLongSmallRange() {
+    return RandomNumberUtils.randomLong(-1000, 1000);
+  }
+
+  @Benchmark
+  public long randomLongLargeRange() {
+    return RandomNumberUtils.randomLong(0, (1L << 62) + 1);
+  }
+
+  @Benchmark
+  public double randomDouble() {
+    return RandomNumberUtils.randomDouble();
+  }
+
+  @Benchmark
+  public double randomDoubleSmallRange() {
+    return RandomNumberUtils.randomDouble(-1000, 1000);
+  }
+}
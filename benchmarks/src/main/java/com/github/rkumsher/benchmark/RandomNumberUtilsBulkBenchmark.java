@@ -0,0 +1,70 @@
+package com.github.rkumsher.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.rkumsher.number.RandomNumberUtils;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RandomNumberUtilsBulkBenchmark {
+
+  @Param({"1000", "10000000"})
+  private int size;
+
+  private int[] ints;
+  private long[] longs;
+
+  @Setup
+  public void setUp() {
+    ints = new int[size];
+    longs = new long[size];
+  }
+
+  @Benchmark
+  public int[] randomIntLoop() {
+    for (int i = 0; i < ints.length; i++) {
+      ints[i] = RandomNumberUtils.randomInt(0, 1_000_000);
+    }
+    return ints;
+  }
+
+  @Benchmark
+  public int[] fillInts() {
+    RandomNumberUtils.fill(ints, 0, 1_000_000);
+    return ints;
+  }
+
+  @Benchmark
+  public int[] parallelFillInts() {
+    RandomNumberUtils.parallelFill(ints, 0, 1_000_000);
+    return ints;
+  }
+
+  @Benchmark
+  public long[] fillLongs() {
+    RandomNumberUtils.fill(longs, 0, Long.MAX_VALUE);
+    return longs;
+  }
+
+  @Benchmark
+  public long[] parallelFillLongs() {
+    RandomNumberUtils.parallelFill(longs, 0, Long.MAX_VALUE);
+    return longs;
+  }
+}
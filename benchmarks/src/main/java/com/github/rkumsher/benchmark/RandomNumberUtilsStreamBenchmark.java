@@ -0,0 +1,59 @@
+package com.github.rkumsher.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.rkumsher.number.RandomNumberUtils;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RandomNumberUtilsStreamBenchmark {
+
+  @Param({"1000", "10000000"})
+  private int size;
+
+  @Benchmark
+  public long generatedIntStream() {
+    return IntStream.generate(() -> RandomNumberUtils.randomInt(0, 1_000_000))
+        .limit(size)
+        .sum();
+  }
+
+  @Benchmark
+  public long parallelGeneratedIntStream() {
+    return IntStream.generate(() -> RandomNumberUtils.randomInt(0, 1_000_000))
+        .parallel()
+        .limit(size)
+        .sum();
+  }
+
+  @Benchmark
+  public long randomInts() {
+    return RandomNumberUtils.randomInts(size, 0, 1_000_000).asLongStream().sum();
+  }
+
+  @Benchmark
+  public long parallelRandomInts() {
+    return RandomNumberUtils.randomInts(size, 0, 1_000_000).parallel().asLongStream().sum();
+  }
+
+  @Benchmark
+  public double parallelRandomDoubles() {
+    return RandomNumberUtils.randomDoubles(size, 0, 1).parallel().sum();
+  }
+}
@@ -0,0 +1,41 @@
+package com.github.rkumsher.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.rkumsher.collection.RandomPermutation;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RandomPermutationBenchmark {
+
+  @Param({"1000000", "10000000000"})
+  private long size;
+
+  private RandomPermutation permutation;
+
+  @Setup
+  public void setUp() {
+    permutation = RandomPermutation.of(size);
+  }
+
+  @Benchmark
+  public long walkFirstMillion() {
+    return permutation.stream().limit(1_000_000).sum();
+  }
+}
@@ -0,0 +1,61 @@
+package com.github.rkumsher.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.rkumsher.collection.WeightedSampler;
+import com.github.rkumsher.number.RandomNumberUtils;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WeightedSamplerBenchmark {
+
+  @Param({"3", "1000", "1000000"})
+  private int size;
+
+  private double[] cumulativeWeights;
+  private WeightedSampler<Integer> sampler;
+
+  @Setup
+  public void setUp() {
+    double[] weights = new double[size];
+    cumulativeWeights = new double[size];
+    double sum = 0;
+    for (int i = 0; i < size; i++) {
+      weights[i] = i + 1;
+      sum += weights[i];
+      cumulativeWeights[i] = sum;
+    }
+    sampler = WeightedSampler.of(weights);
+  }
+
+  @Benchmark
+  public int cumulativeScan() {
+    double target = RandomNumberUtils.randomDouble(0, cumulativeWeights[size - 1]);
+    int index = 0;
+    while (cumulativeWeights[index] <= target) {
+      index++;
+    }
+    return index;
+  }
+
+  @Benchmark
+  public int nextIndex() {
+    return sampler.nextIndex();
+  }
+}
@@ -5,14 +5,28 @@ import static org.apache.commons.lang3.ArrayUtils.isNotEmpty;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.List;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.IntPredicate;
 
-import com.google.common.collect.Iterables;
-import com.google.common.collect.Lists;
+import com.github.rkumsher.random.RandomSource;
+import com.github.rkumsher.random.RandomSources;
 
-/** Utility library for working with arrays. */
+/**
+ * Utility library for working with arrays.
+ *
+ * <p>All random values are drawn from {@link RandomSources#current()}.
+ */
 public final class ArrayUtils {
 
+  /**
+   * Number of indexes drawn, while the values to exclude are sparse, before falling back to a
+   * single pass over the indexes that aren't excluded.
+   */
+  private static final int MAX_REJECTED_DRAWS = 32;
+
+  private static final String ONLY_EXCLUDES = "Array only consists of the given excludes";
+
   private ArrayUtils() {}
 
   /**
@@ -25,7 +39,7 @@ public final class ArrayUtils {
    */
   public static <T> T randomFrom(T[] array) {
     checkArgument(isNotEmpty(array), "Array cannot be empty");
-    return IterableUtils.randomFrom(Arrays.asList(array));
+    return array[RandomSources.current().nextInt(0, array.length)];
   }
 
   /**
@@ -45,19 +59,590 @@ public final class ArrayUtils {
   /**
    * Returns a random element from the given array that's not in the values to exclude.
    *
+   * <p>The values to exclude are hashed once, unless they already are a {@link Set}, and the given
+   * array is never copied.
+   *
    * @param array array to return random element from
    * @param excludes values to exclude
    * @param <T> the type of elements in the given array
    * @return random element from the given array that's not in the values to exclude
-   * @throws IllegalArgumentException if the array is empty
+   * @throws IllegalArgumentException if the array is empty or only consists of the values to
+   *     exclude
    */
   public static <T> T randomFrom(T[] array, Collection<T> excludes) {
     checkArgument(isNotEmpty(array), "Array cannot be empty");
-    List<T> list = Arrays.asList(array);
-    Iterable<T> copy = Lists.newArrayList(list);
-    Iterables.removeAll(copy, excludes);
-    checkArgument(!Iterables.isEmpty(copy), "Array only consists of the given excludes");
-    return IterableUtils.randomFrom(list, excludes);
+    Set<?> excluded = excludes instanceof Set ? (Set<?>) excludes : new HashSet<>(excludes);
+    int index =
+        randomIndex(
+            array.length, excluded.size(), i -> excluded.contains(array[i]), ONLY_EXCLUDES);
+    return array[index];
+  }
+
+  /**
+   * Returns a random element from the given int array.
+   *
+   * @param array array to return random element from
+   * @return random element from the given array
+   * @throws IllegalArgumentException if the array is empty
+   */
+  public static int randomFrom(int[] array) {
+    checkArgument(isNotEmpty(array), "Array cannot be empty");
+    return array[RandomSources.current().nextInt(0, array.length)];
+  }
+
+  /**
+   * Returns a random element from the given int array that's not in the values to exclude. Neither
+   * the given array nor its elements are copied, only the values to exclude are sorted once.
+   *
+   * @param array array to return random element from
+   * @param excludes values to exclude
+   * @return random element from the given array that's not in the values to exclude
+   * @throws IllegalArgumentException if the array is empty or only consists of the values to
+   *     exclude
+   */
+  public static int randomFrom(int[] array, int... excludes) {
+    checkArgument(isNotEmpty(array), "Array cannot be empty");
+    int[] sortedExcludes = excludes.clone();
+    Arrays.sort(sortedExcludes);
+    int index =
+        randomIndex(
+            array.length,
+            sortedExcludes.length,
+            i -> Arrays.binarySearch(sortedExcludes, array[i]) >= 0,
+            ONLY_EXCLUDES);
+    return array[index];
+  }
+
+  /**
+   * Returns a random element from the given long array.
+   *
+   * @param array array to return random element from
+   * @return random element from the given array
+   * @throws IllegalArgumentException if the array is empty
+   */
+  public static long randomFrom(long[] array) {
+    checkArgument(isNotEmpty(array), "Array cannot be empty");
+    return array[RandomSources.current().nextInt(0, array.length)];
+  }
+
+  /**
+   * Returns a random element from the given long array that's not in the values to exclude. Neither
+   * the given array nor its elements are copied, only the values to exclude are sorted once.
+   *
+   * @param array array to return random element from
+   * @param excludes values to exclude
+   * @return random element from the given array that's not in the values to exclude
+   * @throws IllegalArgumentException if the array is empty or only consists of the values to
+   *     exclude
+   */
+  public static long randomFrom(long[] array, long... excludes) {
+    checkArgument(isNotEmpty(array), "Array cannot be empty");
+    long[] sortedExcludes = excludes.clone();
+    Arrays.sort(sortedExcludes);
+    int index =
+        randomIndex(
+            array.length,
+            sortedExcludes.length,
+            i -> Arrays.binarySearch(sortedExcludes, array[i]) >= 0,
+            ONLY_EXCLUDES);
+    return array[index];
+  }
+
+  /**
+   * Returns a random element from the given double array.
+   *
+   * @param array array to return random element from
+   * @return random element from the given array
+   * @throws IllegalArgumentException if the array is empty
+   */
+  public static double randomFrom(double[] array) {
+    checkArgument(isNotEmpty(array), "Array cannot be empty");
+    return array[RandomSources.current().nextInt(0, array.length)];
+  }
+
+  /**
+   * Returns a random element from the given double array that's not in the values to exclude.
+   * Neither the given array nor its elements are copied, only the values to exclude are sorted
+   * once.
+   *
+   * @param array array to return random element from
+   * @param excludes values to exclude
+   * @return random element from the given array that's not in the values to exclude
+   * @throws IllegalArgumentException if the array is empty or only consists of the values to
+   *     exclude
+   */
+  public static double randomFrom(double[] array, double... excludes) {
+    checkArgument(isNotEmpty(array), "Array cannot be empty");
+    double[] sortedExcludes = excludes.clone();
+    Arrays.sort(sortedExcludes);
+    int index =
+        randomIndex(
+            array.length,
+            sortedExcludes.length,
+            i -> Arrays.binarySearch(sortedExcludes, array[i]) >= 0,
+            ONLY_EXCLUDES);
+    return array[index];
+  }
+
+  /**
+   * Returns a random element from the given char array.
+   *
+   * @param array array to return random element from
+   * @return random element from the given array
+   * @throws IllegalArgumentException if the array is empty
+   */
+  public static char randomFrom(char[] array) {
+    checkArgument(isNotEmpty(array), "Array cannot be empty");
+    return array[RandomSources.current().nextInt(0, array.length)];
+  }
+
+  /**
+   * Returns a random element from the given char array that's not in the values to exclude. Neither
+   * the given array nor its elements are copied, only the values to exclude are sorted once.
+   *
+   * @param array array to return random element from
+   * @param excludes values to exclude
+   * @return random element from the given array that's not in the values to exclude
+   * @throws IllegalArgumentException if the array is empty or only consists of the values to
+   *     exclude
+   */
+  public static char randomFrom(char[] array, char... excludes) {
+    checkArgument(isNotEmpty(array), "Array cannot be empty");
+    char[] sortedExcludes = excludes.clone();
+    Arrays.sort(sortedExcludes);
+    int index =
+        randomIndex(
+            array.length,
+            sortedExcludes.length,
+            i -> Arrays.binarySearch(sortedExcludes, array[i]) >= 0,
+            ONLY_EXCLUDES);
+    return array[index];
+  }
+
+  /**
+   * Returns a random element from the given byte array.
+   *
+   * @param array array to return random element from
+   * @return random element from the given array
+   * @throws IllegalArgumentException if the array is empty
+   */
+  public static byte randomFrom(byte[] array) {
+    checkArgument(isNotEmpty(array), "Array cannot be empty");
+    return array[RandomSources.current().nextInt(0, array.length)];
+  }
+
+  /**
+   * Returns a random element from the given byte array that's not in the values to exclude. Neither
+   * the given array nor its elements are copied, only the values to exclude are sorted once.
+   *
+   * @param array array to return random element from
+   * @param excludes values to exclude
+   * @return random element from the given array that's not in the values to exclude
+   * @throws IllegalArgumentException if the array is empty or only consists of the values to
+   *     exclude
+   */
+  public static byte randomFrom(byte[] array, byte... excludes) {
+    checkArgument(isNotEmpty(array), "Array cannot be empty");
+    byte[] sortedExcludes = excludes.clone();
+    Arrays.sort(sortedExcludes);
+    int index =
+        randomIndex(
+            array.length,
+            sortedExcludes.length,
+            i -> Arrays.binarySearch(sortedExcludes, array[i]) >= 0,
+            ONLY_EXCLUDES);
+    return array[index];
+  }
+
+  /**
+   * Returns a random element from the given short array.
+   *
+   * @param array array to return random element from
+   * @return random element from the given array
+   * @throws IllegalArgumentException if the array is empty
+   */
+  public static short randomFrom(short[] array) {
+    checkArgument(isNotEmpty(array), "Array cannot be empty");
+    return array[RandomSources.current().nextInt(0, array.length)];
+  }
+
+  /**
+   * Returns a random element from the given short array that's not in the values to exclude.
+   * Neither the given array nor its elements are copied, only the values to exclude are sorted
+   * once.
+   *
+   * @param array array to return random element from
+   * @param excludes values to exclude
+   * @return random element from the given array that's not in the values to exclude
+   * @throws IllegalArgumentException if the array is empty or only consists of the values to
+   *     exclude
+   */
+  public static short randomFrom(short[] array, short... excludes) {
+    checkArgument(isNotEmpty(array), "Array cannot be empty");
+    short[] sortedExcludes = excludes.clone();
+    Arrays.sort(sortedExcludes);
+    int index =
+        randomIndex(
+            array.length,
+            sortedExcludes.length,
+            i -> Arrays.binarySearch(sortedExcludes, array[i]) >= 0,
+            ONLY_EXCLUDES);
+    return array[index];
+  }
+
+  /**
+   * Returns a random element from the given float array.
+   *
+   * @param array array to return random element from
+   * @return random element from the given array
+   * @throws IllegalArgumentException if the array is empty
+   */
+  public static float randomFrom(float[] array) {
+    checkArgument(isNotEmpty(array), "Array cannot be empty");
+    return array[RandomSources.current().nextInt(0, array.length)];
+  }
+
+  /**
+   * Returns a random element from the given float array that's not in the values to exclude.
+   * Neither the given array nor its elements are copied, only the values to exclude are sorted
+   * once.
+   *
+   * @param array array to return random element from
+   * @param excludes values to exclude
+   * @return random element from the given array that's not in the values to exclude
+   * @throws IllegalArgumentException if the array is empty or only consists of the values to
+   *     exclude
+   */
+  public static float randomFrom(float[] array, float... excludes) {
+    checkArgument(isNotEmpty(array), "Array cannot be empty");
+    float[] sortedExcludes = excludes.clone();
+    Arrays.sort(sortedExcludes);
+    int index =
+        randomIndex(
+            array.length,
+            sortedExcludes.length,
+            i -> Arrays.binarySearch(sortedExcludes, array[i]) >= 0,
+            ONLY_EXCLUDES);
+    return array[index];
+  }
+
+  /**
+   * Shuffles the given array in place, so that all permutations of its elements are equally likely,
+   * using a Fisher-Yates shuffle.
+   *
+   * @param array array to shuffle
+   * @param <T> the type of elements in the given array
+   */
+  public static <T> void shuffle(T[] array) {
+    shuffle(RandomSources.current(), array, 0, array.length, array.length);
+  }
+
+  /**
+   * Shuffles the first count positions of the given array in place, so that they hold a random
+   * sample of count of its elements in random order, using a partial Fisher-Yates shuffle that
+   * stops after count positions. The other positions hold the remaining elements in no particular
+   * order.
+   *
+   * @param array array to partially shuffle
+   * @param count number of positions to shuffle
+   * @param <T> the type of elements in the given array
+   * @throws IllegalArgumentException if count is negative or greater than the length of the array
+   */
+  public static <T> void partialShuffle(T[] array, int count) {
+    checkShuffleCount(array.length, count);
+    shuffle(RandomSources.current(), array, 0, array.length, count);
+  }
+
+  /**
+   * Shuffles the given int array in place, so that all permutations of its elements are equally
+   * likely, using a Fisher-Yates shuffle.
+   *
+   * @param array array to shuffle
+   */
+  public static void shuffle(int[] array) {
+    shuffle(RandomSources.current(), array, 0, array.length, array.length);
+  }
+
+  /**
+   * Shuffles the first count positions of the given int array in place, so that they hold a random
+   * sample of count of its elements in random order. The other positions hold the remaining
+   * elements in no particular order.
+   *
+   * @param array array to partially shuffle
+   * @param count number of positions to shuffle
+   * @throws IllegalArgumentException if count is negative or greater than the length of the array
+   */
+  public static void partialShuffle(int[] array, int count) {
+    checkShuffleCount(array.length, count);
+    shuffle(RandomSources.current(), array, 0, array.length, count);
+  }
+
+  /**
+   * Shuffles the given long array in place, so that all permutations of its elements are equally
+   * likely, using a Fisher-Yates shuffle.
+   *
+   * @param array array to shuffle
+   */
+  public static void shuffle(long[] array) {
+    shuffle(RandomSources.current(), array, 0, array.length, array.length);
+  }
+
+  /**
+   * Shuffles the first count positions of the given long array in place, so that they hold a random
+   * sample of count of its elements in random order. The other positions hold the remaining
+   * elements in no particular order.
+   *
+   * @param array array to partially shuffle
+   * @param count number of positions to shuffle
+   * @throws IllegalArgumentException if count is negative or greater than the length of the array
+   */
+  public static void partialShuffle(long[] array, int count) {
+    checkShuffleCount(array.length, count);
+    shuffle(RandomSources.current(), array, 0, array.length, count);
+  }
+
+  /**
+   * Shuffles the given double array in place, so that all permutations of its elements are equally
+   * likely, using a Fisher-Yates shuffle.
+   *
+   * @param array array to shuffle
+   */
+  public static void shuffle(double[] array) {
+    shuffle(RandomSources.current(), array, 0, array.length, array.length);
+  }
+
+  /**
+   * Shuffles the first count positions of the given double array in place, so that they hold a
+   * random sample of count of its elements in random order. The other positions hold the remaining
+   * elements in no particular order.
+   *
+   * @param array array to partially shuffle
+   * @param count number of positions to shuffle
+   * @throws IllegalArgumentException if count is negative or greater than the length of the array
+   */
+  public static void partialShuffle(double[] array, int count) {
+    checkShuffleCount(array.length, count);
+    shuffle(RandomSources.current(), array, 0, array.length, count);
+  }
+
+  /**
+   * Shuffles the given char array in place, so that all permutations of its elements are equally
+   * likely, using a Fisher-Yates shuffle.
+   *
+   * @param array array to shuffle
+   */
+  public static void shuffle(char[] array) {
+    shuffle(RandomSources.current(), array, 0, array.length, array.length);
+  }
+
+  /**
+   * Shuffles the first count positions of the given char array in place, so that they hold a random
+   * sample of count of its elements in random order. The other positions hold the remaining
+   * elements in no particular order.
+   *
+   * @param array array to partially shuffle
+   * @param count number of positions to shuffle
+   * @throws IllegalArgumentException if count is negative or greater than the length of the array
+   */
+  public static void partialShuffle(char[] array, int count) {
+    checkShuffleCount(array.length, count);
+    shuffle(RandomSources.current(), array, 0, array.length, count);
+  }
+
+  /**
+   * Shuffles the given byte array in place, so that all permutations of its elements are equally
+   * likely, using a Fisher-Yates shuffle.
+   *
+   * @param array array to shuffle
+   */
+  public static void shuffle(byte[] array) {
+    shuffle(RandomSources.current(), array, 0, array.length, array.length);
+  }
+
+  /**
+   * Shuffles the first count positions of the given byte array in place, so that they hold a random
+   * sample of count of its elements in random order. The other positions hold the remaining
+   * elements in no particular order.
+   *
+   * @param array array to partially shuffle
+   * @param count number of positions to shuffle
+   * @throws IllegalArgumentException if count is negative or greater than the length of the array
+   */
+  public static void partialShuffle(byte[] array, int count) {
+    checkShuffleCount(array.length, count);
+    shuffle(RandomSources.current(), array, 0, array.length, count);
+  }
+
+  /**
+   * Shuffles the given short array in place, so that all permutations of its elements are equally
+   * likely, using a Fisher-Yates shuffle.
+   *
+   * @param array array to shuffle
+   */
+  public static void shuffle(short[] array) {
+    shuffle(RandomSources.current(), array, 0, array.length, array.length);
+  }
+
+  /**
+   * Shuffles the first count positions of the given short array in place, so that they hold a
+   * random sample of count of its elements in random order. The other positions hold the remaining
+   * elements in no particular order.
+   *
+   * @param array array to partially shuffle
+   * @param count number of positions to shuffle
+   * @throws IllegalArgumentException if count is negative or greater than the length of the array
+   */
+  public static void partialShuffle(short[] array, int count) {
+    checkShuffleCount(array.length, count);
+    shuffle(RandomSources.current(), array, 0, array.length, count);
+  }
+
+  /**
+   * Shuffles the given float array in place, so that all permutations of its elements are equally
+   * likely, using a Fisher-Yates shuffle.
+   *
+   * @param array array to shuffle
+   */
+  public static void shuffle(float[] array) {
+    shuffle(RandomSources.current(), array, 0, array.length, array.length);
+  }
+
+  /**
+   * Shuffles the first count positions of the given float array in place, so that they hold a
+   * random sample of count of its elements in random order. The other positions hold the remaining
+   * elements in no particular order.
+   *
+   * @param array array to partially shuffle
+   * @param count number of positions to shuffle
+   * @throws IllegalArgumentException if count is negative or greater than the length of the array
+   */
+  public static void partialShuffle(float[] array, int count) {
+    checkShuffleCount(array.length, count);
+    shuffle(RandomSources.current(), array, 0, array.length, count);
+  }
+
+  /**
+   * Shuffles the given boolean array in place, so that all permutations of its elements are equally
+   * likely, using a Fisher-Yates shuffle.
+   *
+   * @param array array to shuffle
+   */
+  public static void shuffle(boolean[] array) {
+    shuffle(RandomSources.current(), array, 0, array.length, array.length);
+  }
+
+  /**
+   * Shuffles the first count positions of the given boolean array in place, so that they hold a
+   * random sample of count of its elements in random order. The other positions hold the remaining
+   * elements in no particular order.
+   *
+   * @param array array to partially shuffle
+   * @param count number of positions to shuffle
+   * @throws IllegalArgumentException if count is negative or greater than the length of the array
+   */
+  public static void partialShuffle(boolean[] array, int count) {
+    checkShuffleCount(array.length, count);
+    shuffle(RandomSources.current(), array, 0, array.length, count);
+  }
+
+  /**
+   * Shuffles the given array in place and in parallel on the common fork/join pool, so that all
+   * permutations of its elements are equally likely. Meant for arrays far larger than the caches,
+   * which are scattered chunk by chunk into randomly chosen buckets that are then shuffled one by
+   * one. Uses a temporary array of the same length, smaller arrays are shuffled sequentially.
+   *
+   * @param array array to shuffle
+   * @param <T> the type of elements in the given array
+   */
+  public static <T> void parallelShuffle(T[] array) {
+    if (array.length < ParallelShuffle.THRESHOLD) {
+      shuffle(array);
+      return;
+    }
+    T[] shuffled = array.clone();
+    ParallelShuffle.shuffle(
+        RandomSources.current().nextLong(),
+        array.length,
+        (from, to, cursor) -> {
+          for (int i = from; i < to; i++) {
+            shuffled[cursor.next()] = array[i];
+          }
+        },
+        (source, from, to) -> {
+          shuffle(source, shuffled, from, to, to - from);
+          System.arraycopy(shuffled, from, array, from, to - from);
+        });
+  }
+
+  /**
+   * Shuffles the given int array in place and in parallel on the common fork/join pool, so that all
+   * permutations of its elements are equally likely. Meant for arrays far larger than the caches,
+   * which are scattered chunk by chunk into randomly chosen buckets that are then shuffled one by
+   * one. Uses a temporary array of the same length, smaller arrays are shuffled sequentially.
+   *
+   * @param array array to shuffle
+   */
+  public static void parallelShuffle(int[] array) {
+    if (array.length < ParallelShuffle.THRESHOLD) {
+      shuffle(array);
+      return;
+    }
+    int[] shuffled = new int[array.length];
+    ParallelShuffle.shuffle(
+        RandomSources.current().nextLong(),
+        array.length,
+        (from, to, cursor) -> {
+          for (int i = from; i < to; i++) {
+            shuffled[cursor.next()] = array[i];
+          }
+        },
+        (source, from, to) -> {
+          shuffle(source, shuffled, from, to, to - from);
+          System.arraycopy(shuffled, from, array, from, to - from);
+        });
+  }
+
+  /**
+   * Shuffles the given long array in place and in parallel on the common fork/join pool, so that
+   * all permutations of its elements are equally likely. Meant for arrays far larger than the
+   * caches, which are scattered chunk by chunk into randomly chosen buckets that are then shuffled
+   * one by one. Uses a temporary array of the same length, smaller arrays are shuffled
+   * sequentially.
+   *
+   * @param array array to shuffle
+   */
+  public static void parallelShuffle(long[] array) {
+    if (array.length < ParallelShuffle.THRESHOLD) {
+      shuffle(array);
+      return;
+    }
+    long[] shuffled = new long[array.length];
+    ParallelShuffle.shuffle(
+        RandomSources.current().nextLong(),
+        array.length,
+        (from, to, cursor) -> {
+          for (int i = from; i < to; i++) {
+            shuffled[cursor.next()] = array[i];
+          }
+        },
+        (source, from, to) -> {
+          shuffle(source, shuffled, from, to, to - from);
+          System.arraycopy(shuffled, from, array, from, to - from);
+        });
+  }
+
+  /**
+   * Returns a {@link Sampler} of the elements of the given array. The array is copied once, so
+   * later changes to the given array don't affect the sampler.
+   *
+   * @param array array to sample random elements from
+   * @param <T> the type of elements in the given array
+   * @return {@link Sampler} of the elements of the given array
+   * @throws IllegalArgumentException if the array is empty
+   */
+  public static <T> Sampler<T> sampler(T[] array) {
+    checkArgument(isNotEmpty(array), "Array cannot be empty");
+    return new Sampler<>(Arrays.copyOf(array, array.length, Object[].class));
   }
 
   /**
@@ -98,4 +683,154 @@ public final class ArrayUtils {
   public static <T> boolean containsAll(T[] arrayToCheck, Iterable<T> elementsToCheckFor) {
     return IterableUtils.containsAll(Arrays.asList(arrayToCheck), elementsToCheckFor);
   }
+
+  /**
+   * Returns whether or not the given array contains all the given elements to check for, checking
+   * the elements in parallel on the common fork/join pool and stopping as soon as one is missing.
+   *
+   * @param arrayToCheck array to to check
+   * @param elementsToCheckFor elements to check for
+   * @param <T> the type of elements in the given array
+   * @return whether or not the given array contains all the given elements to check for.
+   * @see #containsAll(Object[], Object[])
+   */
+  @SafeVarargs
+  public static <T> boolean parallelContainsAll(T[] arrayToCheck, T... elementsToCheckFor) {
+    return parallelContainsAll(arrayToCheck, Arrays.asList(elementsToCheckFor));
+  }
+
+  /**
+   * Returns whether or not the given array contains all the given elements to check for, checking
+   * the elements in parallel on the common fork/join pool and stopping as soon as one is missing.
+   *
+   * @param arrayToCheck array to to check
+   * @param elementsToCheckFor elements to check for
+   * @param <T> the type of elements in the given array
+   * @return whether or not the given array contains all the given elements to check for.
+   * @see #containsAll(Object[], Iterable)
+   */
+  public static <T> boolean parallelContainsAll(T[] arrayToCheck, Iterable<T> elementsToCheckFor) {
+    return IterableUtils.parallelContainsAll(Arrays.asList(arrayToCheck), elementsToCheckFor);
+  }
+
+  /**
+   * Returns a random index of an array of the given length whose element isn't excluded. While the
+   * values to exclude are sparse, random indexes are drawn until one isn't excluded. Otherwise, or
+   * if too many draws were excluded, the array is sampled in a single pass over the indexes that
+   * aren't excluded, using a reservoir of one index.
+   */
+  static int randomIndex(
+      int length, int excludeCount, IntPredicate isExcluded, String onlyExcludesMessage) {
+    RandomSource source = RandomSources.current();
+    if (excludeCount <= length / 2) {
+      for (int draw = 0; draw < MAX_REJECTED_DRAWS; draw++) {
+        int index = source.nextInt(0, length);
+        if (!isExcluded.test(index)) {
+          return index;
+        }
+      }
+    }
+    int sample = -1;
+    int seen = 0;
+    for (int i = 0; i < length; i++) {
+      if (!isExcluded.test(i)) {
+        seen++;
+        if (seen == 1 || source.nextInt(0, seen) == 0) {
+          sample = i;
+        }
+      }
+    }
+    checkArgument(seen > 0, onlyExcludesMessage);
+    return sample;
+  }
+
+  private static void checkShuffleCount(int length, int count) {
+    checkArgument(count >= 0, "Count must be greater than or equal to zero");
+    checkArgument(count <= length, "Count must be less than or equal to the length of the array");
+  }
+
+  /**
+   * Shuffles the positions between from and to of the given array with a Fisher-Yates shuffle that
+   * stops after count positions.
+   */
+  private static <T> void shuffle(RandomSource source, T[] array, int from, int to, int count) {
+    for (int i = from, end = Math.min(from + count, to - 1); i < end; i++) {
+      int j = source.nextInt(i, to);
+      T element = array[i];
+      array[i] = array[j];
+      array[j] = element;
+    }
+  }
+
+  private static void shuffle(RandomSource source, int[] array, int from, int to, int count) {
+    for (int i = from, end = Math.min(from + count, to - 1); i < end; i++) {
+      int j = source.nextInt(i, to);
+      int element = array[i];
+      array[i] = array[j];
+      array[j] = element;
+    }
+  }
+
+  private static void shuffle(RandomSource source, long[] array, int from, int to, int count) {
+    for (int i = from, end = Math.min(from + count, to - 1); i < end; i++) {
+      int j = source.nextInt(i, to);
+      long element = array[i];
+      array[i] = array[j];
+      array[j] = element;
+    }
+  }
+
+  private static void shuffle(RandomSource source, double[] array, int from, int to, int count) {
+    for (int i = from, end = Math.min(from + count, to - 1); i < end; i++) {
+      int j = source.nextInt(i, to);
+      double element = array[i];
+      array[i] = array[j];
+      array[j] = element;
+    }
+  }
+
+  private static void shuffle(RandomSource source, char[] array, int from, int to, int count) {
+    for (int i = from, end = Math.min(from + count, to - 1); i < end; i++) {
+      int j = source.nextInt(i, to);
+      char element = array[i];
+      array[i] = array[j];
+      array[j] = element;
+    }
+  }
+
+  private static void shuffle(RandomSource source, byte[] array, int from, int to, int count) {
+    for (int i = from, end = Math.min(from + count, to - 1); i < end; i++) {
+      int j = source.nextInt(i, to);
+      byte element = array[i];
+      array[i] = array[j];
+      array[j] = element;
+    }
+  }
+
+  private static void shuffle(RandomSource source, short[] array, int from, int to, int count) {
+    for (int i = from, end = Math.min(from + count, to - 1); i < end; i++) {
+      int j = source.nextInt(i, to);
+      short element = array[i];
+      array[i] = array[j];
+      array[j] = element;
+    }
+  }
+
+  private static void shuffle(RandomSource source, float[] array, int from, int to, int count) {
+    for (int i = from, end = Math.min(from + count, to - 1); i < end; i++) {
+      int j = source.nextInt(i, to);
+      float element = array[i];
+      array[i] = array[j];
+      array[j] = element;
+    }
+  }
+
+  private static void shuffle(RandomSource source, boolean[] array, int from, int to, int count) {
+    for (int i = from, end = Math.min(from + count, to - 1); i < end; i++) {
+      int j = source.nextInt(i, to);
+      boolean element = array[i];
+      array[i] = array[j];
+      array[j] = element;
+    }
+  }
 }
@@ -4,31 +4,77 @@ import static com.google.common.base.Preconditions.*;
 
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Random;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
+import com.github.rkumsher.random.RandomSource;
+import com.github.rkumsher.random.RandomSources;
 import com.google.common.collect.Iterables;
-import com.google.common.collect.Lists;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Sets;
 
-/** Utility library for working with {@link Iterable}s. */
+/**
+ * Utility library for working with {@link Iterable}s.
+ *
+ * <p>All random values are drawn from {@link RandomSources#current()}.
+ */
 public final class IterableUtils {
 
-  private static final Random RANDOM = new Random();
+  /**
+   * Number of elements drawn, while the values to exclude are sparse, before falling back to a
+   * single pass over the elements that aren't excluded.
+   */
+  private static final int MAX_REJECTED_DRAWS = 32;
+
+  /**
+   * Number of elements walked to in a non-indexed {@link Collection}, while the values to exclude
+   * are sparse, before falling back to a single pass over the elements that aren't excluded.
+   */
+  private static final int MAX_REJECTED_WALKS = 4;
+
+  /**
+   * Size up to which a {@link Collection} that isn't a {@link Set} is searched linearly, rather
+   * than hashed, when checking whether it contains elements.
+   */
+  private static final int LINEAR_SEARCH_THRESHOLD = 16;
 
   private IterableUtils() {}
 
   /**
    * Returns a random element from the given {@link Iterable}.
    *
+   * <p>Elements of a {@link RandomAccess} {@link List} are accessed directly by index, any other
+   * {@link Collection} is traversed at most once up to the random index, and any other {@link
+   * Iterable} is sampled in a single pass. The given {@link Iterable} is therefore only iterated
+   * once, which makes it safe to pass an {@link Iterable} that can only be iterated once.
+   *
    * @param iterable {@link Iterable} to return random element from
    * @param <T> the type of elements in the given iterable
    * @return random element from the given {@link Iterable}
    * @throws IllegalArgumentException if the iterable is empty
    */
   public static <T> T randomFrom(Iterable<T> iterable) {
-    checkArgument(!Iterables.isEmpty(iterable), "Iterable cannot be empty");
-    int randomIndex = RANDOM.nextInt(Iterables.size(iterable));
-    return Iterables.get(iterable, randomIndex);
+    RandomSource source = RandomSources.current();
+    if (iterable instanceof Collection) {
+      Collection<T> collection = (Collection<T>) iterable;
+      checkArgument(!collection.isEmpty(), "Iterable cannot be empty");
+      int randomIndex = source.nextInt(0, collection.size());
+      if (collection instanceof List && collection instanceof RandomAccess) {
+        return ((List<T>) collection).get(randomIndex);
+      }
+      return Iterators.get(collection.iterator(), randomIndex);
+    }
+    Iterator<T> iterator = iterable.iterator();
+    checkArgument(iterator.hasNext(), "Iterable cannot be empty");
+    return sample(source, iterator);
   }
 
   /**
@@ -48,18 +94,124 @@ public final class IterableUtils {
   /**
    * Returns a random element from the given {@link Iterable} that's not in the values to exclude.
    *
+   * <p>The values to exclude are hashed once, unless they already are a {@link Set}. When they are
+   * sparse compared to the size of the given {@link Collection}, random elements are drawn until
+   * one isn't excluded. Otherwise the given {@link Iterable} is sampled in a single pass over the
+   * elements that aren't excluded. The given {@link Iterable} is never copied.
+   *
    * @param iterable {@link Iterable} to return random element from
    * @param excludes values to exclude
    * @param <T> the type of elements in the given iterable
    * @return random element from the given {@link Iterable} that's not in the values to exclude
-   * @throws IllegalArgumentException if the iterable is empty
+   * @throws IllegalArgumentException if the iterable is empty or only consists of the values to
+   *     exclude
    */
   public static <T> T randomFrom(Iterable<T> iterable, Collection<T> excludes) {
-    checkArgument(!Iterables.isEmpty(iterable), "Iterable cannot be empty");
-    checkArgument(!containsAll(excludes, iterable), "Iterable only consists of the given excludes");
-    Iterable<T> copy = Lists.newArrayList(iterable);
-    Iterables.removeAll(copy, excludes);
-    return randomFrom(copy);
+    if (excludes.isEmpty()) {
+      return randomFrom(iterable);
+    }
+    Set<?> excluded = excludes instanceof Set ? (Set<?>) excludes : new HashSet<>(excludes);
+    RandomSource source = RandomSources.current();
+    if (iterable instanceof Collection) {
+      Collection<T> collection = (Collection<T>) iterable;
+      checkArgument(!collection.isEmpty(), "Iterable cannot be empty");
+      if (collection instanceof List && collection instanceof RandomAccess) {
+        if (excluded.size() <= collection.size() / 2) {
+          List<T> list = (List<T>) collection;
+          for (int draw = 0; draw < MAX_REJECTED_DRAWS; draw++) {
+            T element = list.get(source.nextInt(0, list.size()));
+            if (!excluded.contains(element)) {
+              return element;
+            }
+          }
+        }
+      } else if (excluded.size() <= collection.size() / 8) {
+        for (int draw = 0; draw < MAX_REJECTED_WALKS; draw++) {
+          T element = Iterators.get(collection.iterator(), source.nextInt(0, collection.size()));
+          if (!excluded.contains(element)) {
+            return element;
+          }
+        }
+      }
+    }
+    Iterator<T> iterator = iterable.iterator();
+    checkArgument(iterator.hasNext(), "Iterable cannot be empty");
+    return sampleExcluding(source, iterator, excluded);
+  }
+
+  /**
+   * Returns a {@link Sampler} of the elements of the given {@link Iterable}. The elements are
+   * copied once, so later changes to the given {@link Iterable} don't affect the sampler.
+   *
+   * @param iterable {@link Iterable} to sample random elements from
+   * @param <T> the type of elements in the given iterable
+   * @return {@link Sampler} of the elements of the given {@link Iterable}
+   * @throws IllegalArgumentException if the iterable is empty
+   */
+  public static <T> Sampler<T> sampler(Iterable<T> iterable) {
+    Object[] elements =
+        iterable instanceof Collection
+            ? ((Collection<T>) iterable).toArray()
+            : Iterables.toArray(iterable, Object.class);
+    checkArgument(elements.length > 0, "Iterable cannot be empty");
+    return new Sampler<>(elements);
+  }
+
+  /**
+   * Returns a supplier of random elements of the given non-empty {@link Iterable}, for drawing many
+   * elements from it. A {@link RandomAccess} {@link List} is drawn from directly, any other {@link
+   * Iterable} is copied into a {@link Sampler} once, so every draw takes constant time.
+   */
+  static <T> Supplier<T> randomElementSupplier(Iterable<T> iterable) {
+    if (iterable instanceof List && iterable instanceof RandomAccess) {
+      List<T> list = (List<T>) iterable;
+      int size = list.size();
+      return () -> list.get(RandomSources.current().nextInt(0, size));
+    }
+    return sampler(iterable)::next;
+  }
+
+  /**
+   * Shuffles the given {@link List} in place, so that all permutations of its elements are equally
+   * likely, using a Fisher-Yates shuffle. Unlike {@link Collections#shuffle(List)} the random
+   * values are drawn from {@link RandomSources#current()}.
+   *
+   * @param list {@link List} to shuffle
+   */
+  public static void shuffle(List<?> list) {
+    partialShuffle(list, list.size());
+  }
+
+  /**
+   * Shuffles the first count positions of the given {@link List} in place, so that they hold a
+   * random sample of count of its elements in random order, using a partial Fisher-Yates shuffle
+   * that stops after count positions. The other positions hold the remaining elements in no
+   * particular order. A {@link List} without {@link RandomAccess} is copied into an array, shuffled
+   * and written back.
+   *
+   * @param list {@link List} to partially shuffle
+   * @param count number of positions to shuffle
+   * @throws IllegalArgumentException if count is negative or greater than the size of the list
+   */
+  @SuppressWarnings("unchecked")
+  public static void partialShuffle(List<?> list, int count) {
+    checkArgument(count >= 0, "Count must be greater than or equal to zero");
+    checkArgument(count <= list.size(), "Count must be less than or equal to the size of the list");
+    if (list instanceof RandomAccess) {
+      RandomSource source = RandomSources.current();
+      int size = list.size();
+      for (int i = 0, end = Math.min(count, size - 1); i < end; i++) {
+        Collections.swap(list, i, source.nextInt(i, size));
+      }
+      return;
+    }
+    Object[] array = list.toArray();
+    ArrayUtils.partialShuffle(array, count);
+    ListIterator<Object> iterator = (ListIterator<Object>) list.listIterator();
+    for (Object element : array) {
+      iterator.next();
+      iterator.set(element);
+    }
   }
 
   /**
@@ -92,6 +244,9 @@ public final class IterableUtils {
    *   IterableUtils.containsAll(Lists.newArrayList("a", "b"), Lists.newArrayList("a", "b", "a", "b")) = true;
    * </pre>
    *
+   * <p>A {@link Set} to check is looked up directly. Any other {@link Iterable} to check, beyond a
+   * small size, is hashed once so the check takes linear instead of quadratic time.
+   *
    * @param iterableToCheck {@link Iterable} to to check
    * @param elementsToCheckFor elements to check for
    * @param <T> the type of elements in the given iterables
@@ -99,7 +254,109 @@ public final class IterableUtils {
    */
   public static <T> boolean containsAll(
       Iterable<T> iterableToCheck, Iterable<T> elementsToCheckFor) {
-    return StreamSupport.stream(elementsToCheckFor.spliterator(), false)
-        .allMatch(element -> Iterables.contains(iterableToCheck, element));
+    Collection<?> lookup = lookupOf(iterableToCheck, elementsToCheckFor, false);
+    for (T element : elementsToCheckFor) {
+      if (!lookup.contains(element)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns whether or not the given {@link Iterable} contains all the given elements to check for,
+   * checking the elements in parallel on the common fork/join pool and stopping as soon as one is
+   * missing. Unless the given {@link Iterable} is a {@link Set}, it is hashed in parallel first.
+   *
+   * @param iterableToCheck {@link Iterable} to to check
+   * @param elementsToCheckFor elements to check for
+   * @param <T> the type of elements in the given iterables
+   * @return whether or not the given {@link Iterable} contains all the given elements to check for.
+   * @see #containsAll(Iterable, Object[])
+   */
+  @SafeVarargs
+  public static <T> boolean parallelContainsAll(
+      Iterable<T> iterableToCheck, T... elementsToCheckFor) {
+    return parallelContainsAll(iterableToCheck, Arrays.asList(elementsToCheckFor));
+  }
+
+  /**
+   * Returns whether or not the given {@link Iterable} contains all the given elements to check for,
+   * checking the elements in parallel on the common fork/join pool and stopping as soon as one is
+   * missing. Unless the given {@link Iterable} is a {@link Set}, it is hashed in parallel first.
+   *
+   * @param iterableToCheck {@link Iterable} to to check
+   * @param elementsToCheckFor elements to check for
+   * @param <T> the type of elements in the given iterables
+   * @return whether or not the given {@link Iterable} contains all the given elements to check for.
+   * @see #containsAll(Iterable, Iterable)
+   */
+  public static <T> boolean parallelContainsAll(
+      Iterable<T> iterableToCheck, Iterable<T> elementsToCheckFor) {
+    Collection<?> lookup = lookupOf(iterableToCheck, elementsToCheckFor, true);
+    return StreamSupport.stream(elementsToCheckFor.spliterator(), true).allMatch(lookup::contains);
+  }
+
+  /**
+   * Returns a {@link Collection} to look the elements to check for up in. A {@link Set} is used as
+   * is, as is a small {@link Collection} or one that's only checked for a single element. Anything
+   * else is hashed once, so that checking for all the elements takes linear instead of quadratic
+   * time.
+   */
+  private static <T> Collection<?> lookupOf(
+      Iterable<T> iterableToCheck, Iterable<T> elementsToCheckFor, boolean parallel) {
+    if (iterableToCheck instanceof Set) {
+      return (Set<T>) iterableToCheck;
+    }
+    if (iterableToCheck instanceof Collection) {
+      Collection<T> collection = (Collection<T>) iterableToCheck;
+      if (collection.size() <= LINEAR_SEARCH_THRESHOLD
+          || (elementsToCheckFor instanceof Collection
+              && ((Collection<T>) elementsToCheckFor).size() <= 1)) {
+        return collection;
+      }
+    }
+    if (parallel) {
+      return StreamSupport.stream(iterableToCheck.spliterator(), true)
+          .collect(Collectors.toCollection(HashSet::new));
+    }
+    return Sets.newHashSet(iterableToCheck);
+  }
+
+  /**
+   * Returns a random element of the given non-empty {@link Iterator}, using a reservoir of one
+   * element so that it's consumed in a single pass without knowing its size.
+   */
+  private static <T> T sample(RandomSource source, Iterator<T> iterator) {
+    T sample = iterator.next();
+    long seen = 1;
+    while (iterator.hasNext()) {
+      T element = iterator.next();
+      seen++;
+      if (source.nextLong(0, seen) == 0) {
+        sample = element;
+      }
+    }
+    return sample;
+  }
+
+  /**
+   * Returns a random element of the given {@link Iterator} that's not excluded, using a reservoir
+   * of one element so that it's consumed in a single pass.
+   */
+  private static <T> T sampleExcluding(RandomSource source, Iterator<T> iterator, Set<?> excluded) {
+    T sample = null;
+    long seen = 0;
+    while (iterator.hasNext()) {
+      T element = iterator.next();
+      if (!excluded.contains(element)) {
+        seen++;
+        if (seen == 1 || source.nextLong(0, seen) == 0) {
+          sample = element;
+        }
+      }
+    }
+    checkArgument(seen > 0, "Iterable only consists of the given excludes");
+    return sample;
   }
 }
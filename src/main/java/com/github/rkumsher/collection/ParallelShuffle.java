@@ -0,0 +1,115 @@
+package com.github.rkumsher.collection;
+
+import java.util.stream.IntStream;
+
+import com.github.rkumsher.random.ParallelRandom;
+import com.github.rkumsher.random.RandomSource;
+import com.github.rkumsher.random.RandomSources;
+
+/**
+ * Shuffles arrays far larger than the caches in parallel. Every chunk of the array scatters its
+ * elements into randomly chosen buckets, after which every bucket is shuffled on its own. Since
+ * every element goes to a uniformly random bucket, independently of the others, and every bucket
+ * is shuffled uniformly, the resulting permutation is uniform.
+ *
+ * <p>Every chunk and every bucket draws from its own stream, keyed by its index (see {@link
+ * RandomSources#splittableRandom(long, long)}), so shuffling with a seeded source is reproducible
+ * regardless of scheduling. The bucket of an element is drawn twice from the same stream, once to
+ * count the sizes of the buckets and once to scatter the element, rather than being stored.
+ */
+final class ParallelShuffle {
+
+  /** Length of the arrays below which shuffling in parallel doesn't pay off. */
+  static final int THRESHOLD = 4 * ParallelRandom.BLOCK_SIZE;
+
+  private static final int CHUNK_SIZE = ParallelRandom.BLOCK_SIZE;
+  private static final int MAX_BUCKETS = 256;
+
+  private ParallelShuffle() {}
+
+  /** Moves the elements of a chunk of the array to the positions handed out by a bucket cursor. */
+  @FunctionalInterface
+  interface Scatter {
+
+    void scatter(int fromInclusive, int toExclusive, BucketCursor cursor);
+  }
+
+  /** Shuffles a bucket of scattered elements and moves it back into the array. */
+  @FunctionalInterface
+  interface BucketShuffle {
+
+    void shuffle(RandomSource source, int fromInclusive, int toExclusive);
+  }
+
+  /** Draws the bucket of every element of a chunk and hands out its next free position. */
+  static final class BucketCursor {
+
+    private final RandomSource source;
+    private final int[] offsets;
+
+    private BucketCursor(RandomSource source, int[] offsets) {
+      this.source = source;
+      this.offsets = offsets;
+    }
+
+    int next() {
+      return offsets[source.nextInt(0, offsets.length)]++;
+    }
+  }
+
+  /**
+   * Shuffles an array of the given length, whose chunks are scattered by the given {@link Scatter}
+   * and whose buckets are then shuffled by the given {@link BucketShuffle}.
+   */
+  static void shuffle(long seed, int length, Scatter scatter, BucketShuffle bucketShuffle) {
+    int chunks = (int) (((long) length + CHUNK_SIZE - 1) / CHUNK_SIZE);
+    int buckets = Math.min(chunks, MAX_BUCKETS);
+    int[][] offsets = new int[chunks][];
+    IntStream.range(0, chunks)
+        .parallel()
+        .forEach(
+            chunk -> {
+              RandomSource source = RandomSources.splittableRandom(seed, chunk);
+              int[] counts = new int[buckets];
+              for (int i = chunkStart(chunk); i < chunkEnd(chunk, length); i++) {
+                counts[source.nextInt(0, buckets)]++;
+              }
+              offsets[chunk] = counts;
+            });
+    int[] bucketStarts = new int[buckets + 1];
+    int position = 0;
+    for (int bucket = 0; bucket < buckets; bucket++) {
+      bucketStarts[bucket] = position;
+      for (int[] chunkOffsets : offsets) {
+        int count = chunkOffsets[bucket];
+        chunkOffsets[bucket] = position;
+        position += count;
+      }
+    }
+    bucketStarts[buckets] = length;
+    IntStream.range(0, chunks)
+        .parallel()
+        .forEach(
+            chunk ->
+                scatter.scatter(
+                    chunkStart(chunk),
+                    chunkEnd(chunk, length),
+                    new BucketCursor(RandomSources.splittableRandom(seed, chunk), offsets[chunk])));
+    IntStream.range(0, buckets)
+        .parallel()
+        .forEach(
+            bucket ->
+                bucketShuffle.shuffle(
+                    RandomSources.splittableRandom(seed, chunks + bucket),
+                    bucketStarts[bucket],
+                    bucketStarts[bucket + 1]));
+  }
+
+  private static int chunkStart(int chunk) {
+    return chunk * CHUNK_SIZE;
+  }
+
+  private static int chunkEnd(int chunk, int length) {
+    return (int) Math.min(length, (long) chunkStart(chunk) + CHUNK_SIZE);
+  }
+}
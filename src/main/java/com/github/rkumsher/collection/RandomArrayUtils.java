@@ -3,13 +3,13 @@ package com.github.rkumsher.collection;
 import static com.google.common.base.Preconditions.*;
 import static com.google.common.collect.Iterables.isEmpty;
 
-import java.util.Arrays;
-import java.util.Set;
+import java.lang.reflect.Array;
+import java.util.RandomAccess;
+import java.util.function.IntFunction;
 import java.util.function.Supplier;
-import java.util.stream.Stream;
 
-import com.google.common.collect.ContiguousSet;
-import com.google.common.collect.DiscreteDomain;
+import com.github.rkumsher.random.ParallelRandom;
+import com.github.rkumsher.random.RandomSources;
 import com.google.common.collect.Range;
 
 /** Utility library to generate random arrays. */
@@ -18,7 +18,8 @@ public final class RandomArrayUtils {
   private RandomArrayUtils() {}
 
   /**
-   * Returns an array filled randomly from the given elements.
+   * Returns an array filled randomly from the given elements. The returned array has the same
+   * component type as the given elements.
    *
    * @param elements elements to randomly fill array from
    * @param size range that the size of the array will be randomly chosen from
@@ -28,7 +29,8 @@ public final class RandomArrayUtils {
    *     range contains negative integers
    */
   public static <T> T[] randomArrayFrom(T[] elements, Range<Integer> size) {
-    return randomArrayFrom(Arrays.asList(elements), size);
+    checkArgument(elements.length > 0, "Elements to populate random array from must not be empty");
+    return randomArrayFrom(elements, RandomSizes.randomSize(size));
   }
 
   /**
@@ -43,13 +45,47 @@ public final class RandomArrayUtils {
    */
   public static <T> T[] randomArrayFrom(Iterable<T> elements, Range<Integer> size) {
     checkArgument(!isEmpty(elements), "Elements to populate random array from must not be empty");
-    return randomArrayFrom(() -> IterableUtils.randomFrom(elements), size);
+    return randomArrayFrom(IterableUtils.randomElementSupplier(elements), size);
+  }
+
+  /**
+   * Returns an array filled randomly from the given elements. The returned array has the same
+   * component type as the given elements.
+   *
+   * @param elements elements to randomly fill array from
+   * @param minSize minimum size of the array
+   * @param maxSize maximum size of the array
+   * @param <T> the type of elements in the given array
+   * @return array filled randomly from the given elements
+   * @throws IllegalArgumentException if the elements to fill array from is empty, if minSize is
+   *     negative or if maxSize is less than minSize
+   */
+  public static <T> T[] randomArrayFrom(T[] elements, int minSize, int maxSize) {
+    checkArgument(elements.length > 0, "Elements to populate random array from must not be empty");
+    return randomArrayFrom(elements, RandomSizes.randomSize(minSize, maxSize));
   }
 
   /**
    * Returns an array filled randomly from the given elements.
    *
    * @param elements elements to randomly fill array from
+   * @param minSize minimum size of the array
+   * @param maxSize maximum size of the array
+   * @param <T> the type of elements in the given iterable
+   * @return array filled randomly from the given elements
+   * @throws IllegalArgumentException if the elements to fill array from is empty, if minSize is
+   *     negative or if maxSize is less than minSize
+   */
+  public static <T> T[] randomArrayFrom(Iterable<T> elements, int minSize, int maxSize) {
+    checkArgument(!isEmpty(elements), "Elements to populate random array from must not be empty");
+    return randomArrayFrom(IterableUtils.randomElementSupplier(elements), minSize, maxSize);
+  }
+
+  /**
+   * Returns an array filled randomly from the given elements. The returned array has the same
+   * component type as the given elements.
+   *
+   * @param elements elements to randomly fill array from
    * @param size of the random array to return
    * @param <T> the type of elements in the given iterable
    * @return array filled randomly from the given elements
@@ -57,7 +93,9 @@ public final class RandomArrayUtils {
    *     negative
    */
   public static <T> T[] randomArrayFrom(T[] elements, int size) {
-    return randomArrayFrom(Arrays.asList(elements), size);
+    checkArgument(elements.length > 0, "Elements to populate random array from must not be empty");
+    IntFunction<T[]> arrayGenerator = arrayGenerator(elements.getClass().getComponentType());
+    return randomArrayFrom(() -> ArrayUtils.randomFrom(elements), size, arrayGenerator);
   }
 
   /**
@@ -72,7 +110,7 @@ public final class RandomArrayUtils {
    */
   public static <T> T[] randomArrayFrom(Iterable<T> elements, int size) {
     checkArgument(!isEmpty(elements), "Elements to populate random array from must not be empty");
-    return randomArrayFrom(() -> IterableUtils.randomFrom(elements), size);
+    return randomArrayFrom(IterableUtils.randomElementSupplier(elements), size);
   }
 
   /**
@@ -85,12 +123,21 @@ public final class RandomArrayUtils {
    * @throws IllegalArgumentException if the size range contains negative integers
    */
   public static <T> T[] randomArrayFrom(Supplier<T> elementSupplier, Range<Integer> size) {
-    checkArgument(
-        size.hasLowerBound() && size.lowerEndpoint() >= 0,
-        "Size range must consist of only positive integers");
-    Set<Integer> rangeSet = ContiguousSet.create(size, DiscreteDomain.integers());
-    int limit = IterableUtils.randomFrom(rangeSet);
-    return randomArrayFrom(elementSupplier, limit);
+    return randomArrayFrom(elementSupplier, RandomSizes.randomSize(size));
+  }
+
+  /**
+   * Returns an array filled from the given element supplier.
+   *
+   * @param elementSupplier element supplier to fill array from
+   * @param minSize minimum size of the array
+   * @param maxSize maximum size of the array
+   * @param <T> the type of element the given supplier returns
+   * @return array filled from the given elements
+   * @throws IllegalArgumentException if minSize is negative or if maxSize is less than minSize
+   */
+  public static <T> T[] randomArrayFrom(Supplier<T> elementSupplier, int minSize, int maxSize) {
+    return randomArrayFrom(elementSupplier, RandomSizes.randomSize(minSize, maxSize));
   }
 
   /**
@@ -104,7 +151,155 @@ public final class RandomArrayUtils {
    */
   @SuppressWarnings("unchecked")
   public static <T> T[] randomArrayFrom(Supplier<T> elementSupplier, int size) {
+    return randomArrayFrom(elementSupplier, size, length -> (T[]) new Object[length]);
+  }
+
+  /**
+   * Returns an array of the given component type filled from the given element supplier.
+   *
+   * <pre>
+   *   String[] strings = RandomArrayUtils.randomArrayFrom(() -&gt; "a", 10, String.class);
+   * </pre>
+   *
+   * @param elementSupplier element supplier to fill array from
+   * @param size of the random array to return
+   * @param componentType the component type of the array to return
+   * @param <T> the type of element the given supplier returns
+   * @return array filled from the given element supplier
+   * @throws IllegalArgumentException if the size is negative or if the component type is primitive
+   */
+  public static <T> T[] randomArrayFrom(
+      Supplier<T> elementSupplier, int size, Class<T> componentType) {
+    return randomArrayFrom(elementSupplier, size, arrayGenerator(componentType));
+  }
+
+  /**
+   * Returns an array, created by the given array generator, filled from the given element
+   * supplier.
+   *
+   * <pre>
+   *   String[] strings = RandomArrayUtils.randomArrayFrom(() -&gt; "a", 10, String[]::new);
+   * </pre>
+   *
+   * @param elementSupplier element supplier to fill array from
+   * @param size of the random array to return
+   * @param arrayGenerator function creating an array of the given length
+   * @param <T> the type of element the given supplier returns
+   * @return array filled from the given element supplier
+   * @throws IllegalArgumentException if the size is negative
+   */
+  public static <T> T[] randomArrayFrom(
+      Supplier<T> elementSupplier, int size, IntFunction<T[]> arrayGenerator) {
     checkArgument(size >= 0, "Size must be greater than or equal to zero");
-    return (T[]) Stream.generate(elementSupplier).limit(size).toArray(Object[]::new);
+    T[] array = arrayGenerator.apply(size);
+    fill(array, elementSupplier, 0, size);
+    return array;
+  }
+
+  /**
+   * Returns an array of the given component type filled randomly from the given elements, filling
+   * blocks of the array in parallel on the common fork/join pool. The elements are copied once,
+   * unless they're a {@link RandomAccess} list, so every element of the array takes constant time
+   * to fill.
+   *
+   * <pre>
+   *   String[] strings = RandomArrayUtils.parallelRandomArrayFrom(names, 10_000, String.class);
+   * </pre>
+   *
+   * @param elements elements to randomly fill array from
+   * @param size of the random array to return
+   * @param componentType the component type of the array to return
+   * @param <T> the type of elements in the given iterable
+   * @return array filled randomly from the given elements
+   * @throws IllegalArgumentException if the elements to fill array from is empty, if the size is
+   *     negative or if the component type is primitive
+   * @see #parallelRandomArrayFrom(Supplier, int, Class)
+   */
+  public static <T> T[] parallelRandomArrayFrom(
+      Iterable<T> elements, int size, Class<T> componentType) {
+    return parallelRandomArrayFrom(elements, size, arrayGenerator(componentType));
+  }
+
+  /**
+   * Returns an array, created by the given array generator, filled randomly from the given
+   * elements, filling blocks of the array in parallel on the common fork/join pool. The elements
+   * are copied once, unless they're a {@link RandomAccess} list, so every element of the array
+   * takes constant time to fill.
+   *
+   * <pre>
+   *   String[] strings = RandomArrayUtils.parallelRandomArrayFrom(names, 10_000, String[]::new);
+   * </pre>
+   *
+   * @param elements elements to randomly fill array from
+   * @param size of the random array to return
+   * @param arrayGenerator function creating an array of the given length
+   * @param <T> the type of elements in the given iterable
+   * @return array filled randomly from the given elements
+   * @throws IllegalArgumentException if the elements to fill array from is empty or if the size is
+   *     negative
+   * @see #parallelRandomArrayFrom(Supplier, int, IntFunction)
+   */
+  public static <T> T[] parallelRandomArrayFrom(
+      Iterable<T> elements, int size, IntFunction<T[]> arrayGenerator) {
+    checkArgument(!isEmpty(elements), "Elements to populate random array from must not be empty");
+    return parallelRandomArrayFrom(
+        IterableUtils.randomElementSupplier(elements), size, arrayGenerator);
+  }
+
+  /**
+   * Returns an array of the given component type filled from the given element supplier, filling
+   * blocks of the array in parallel on the common fork/join pool (see {@link ParallelRandom}).
+   *
+   * <p>The given supplier is called concurrently. While a block is filled, random values are drawn
+   * from a source confined to it, so filling from a seeded source is reproducible.
+   *
+   * @param elementSupplier element supplier to fill array from
+   * @param size of the random array to return
+   * @param componentType the component type of the array to return
+   * @param <T> the type of element the given supplier returns
+   * @return array filled from the given element supplier
+   * @throws IllegalArgumentException if the size is negative or if the component type is primitive
+   */
+  public static <T> T[] parallelRandomArrayFrom(
+      Supplier<T> elementSupplier, int size, Class<T> componentType) {
+    return parallelRandomArrayFrom(elementSupplier, size, arrayGenerator(componentType));
+  }
+
+  /**
+   * Returns an array, created by the given array generator, filled from the given element
+   * supplier, filling blocks of the array in parallel on the common fork/join pool (see {@link
+   * ParallelRandom}).
+   *
+   * <p>The given supplier is called concurrently. While a block is filled, random values are drawn
+   * from a source confined to it, so filling from a seeded source is reproducible.
+   *
+   * @param elementSupplier element supplier to fill array from
+   * @param size of the random array to return
+   * @param arrayGenerator function creating an array of the given length
+   * @param <T> the type of element the given supplier returns
+   * @return array filled from the given element supplier
+   * @throws IllegalArgumentException if the size is negative
+   */
+  public static <T> T[] parallelRandomArrayFrom(
+      Supplier<T> elementSupplier, int size, IntFunction<T[]> arrayGenerator) {
+    checkArgument(size >= 0, "Size must be greater than or equal to zero");
+    T[] array = arrayGenerator.apply(size);
+    ParallelRandom.forEachBlock(
+        RandomSources.current(),
+        size,
+        (source, from, to) -> fill(array, elementSupplier, from, to));
+    return array;
+  }
+
+  private static <T> void fill(T[] array, Supplier<T> elementSupplier, int fromIndex, int toIndex) {
+    for (int i = fromIndex; i < toIndex; i++) {
+      array[i] = elementSupplier.get();
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> IntFunction<T[]> arrayGenerator(Class<?> componentType) {
+    checkArgument(!componentType.isPrimitive(), "Component type must not be primitive");
+    return length -> (T[]) Array.newInstance(componentType, length);
   }
 }
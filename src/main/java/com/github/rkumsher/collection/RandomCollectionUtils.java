@@ -3,20 +3,42 @@ package com.github.rkumsher.collection;
 import static com.google.common.base.Preconditions.*;
 import static com.google.common.collect.Iterables.isEmpty;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.RandomAccess;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
-import com.google.common.collect.ContiguousSet;
-import com.google.common.collect.DiscreteDomain;
+import com.github.rkumsher.random.ParallelRandom;
+import com.github.rkumsher.random.RandomSource;
+import com.github.rkumsher.random.RandomSources;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Range;
 import com.google.common.collect.Sets;
 
-/** Utility library to generate random collections. */
+/**
+ * Utility library to generate random collections.
+ *
+ * <p>All random values are drawn from {@link RandomSources#current()}.
+ */
 public final class RandomCollectionUtils {
 
+  /**
+   * Samples of at most one in this many indexes are chosen with Floyd's algorithm rather than a
+   * partial Fisher-Yates shuffle.
+   */
+  private static final int FLOYD_SAMPLE_RATIO = 16;
+
+  /**
+   * Number of draws in a row, per element in the set, that may return elements already in the set
+   * before a supplier is considered to not have enough distinct elements.
+   */
+  private static final int DUPLICATE_DRAWS_PER_ELEMENT = 16;
+
   private RandomCollectionUtils() {}
 
   /**
@@ -32,7 +54,28 @@ public final class RandomCollectionUtils {
    *     negative
    */
   public static <T> Set<T> randomSetFrom(Iterable<T> elements, Range<Integer> attemptedSize) {
-    return Sets.newHashSet(randomListFrom(elements, attemptedSize));
+    checkArgument(!isEmpty(elements), "Elements to populate from must not be empty");
+    return randomSetFrom(IterableUtils.randomElementSupplier(elements), attemptedSize);
+  }
+
+  /**
+   * Returns a set filled randomly from the given elements. This will randomly put between <code>
+   * minAttemptedSize</code> and <code>maxAttemptedSize</code> (both inclusive) elements into the
+   * set, if any are equal then the returned set will contain less elements.
+   *
+   * @param elements elements to randomly fill set from
+   * @param minAttemptedSize minimum attempted size of the set
+   * @param maxAttemptedSize maximum attempted size of the set
+   * @param <T> the type of elements in the given iterable
+   * @return set filled randomly from the given elements
+   * @throws IllegalArgumentException if the elements to fill set from is empty, if minAttemptedSize
+   *     is negative or if maxAttemptedSize is less than minAttemptedSize
+   */
+  public static <T> Set<T> randomSetFrom(
+      Iterable<T> elements, int minAttemptedSize, int maxAttemptedSize) {
+    checkArgument(!isEmpty(elements), "Elements to populate from must not be empty");
+    return randomSetFrom(
+        IterableUtils.randomElementSupplier(elements), minAttemptedSize, maxAttemptedSize);
   }
 
   /**
@@ -48,7 +91,8 @@ public final class RandomCollectionUtils {
    *     negative
    */
   public static <T> Set<T> randomSetFrom(Iterable<T> elements, int attemptedSize) {
-    return Sets.newHashSet(randomListFrom(elements, attemptedSize));
+    checkArgument(!isEmpty(elements), "Elements to populate from must not be empty");
+    return randomSetFrom(IterableUtils.randomElementSupplier(elements), attemptedSize);
   }
 
   /**
@@ -65,7 +109,26 @@ public final class RandomCollectionUtils {
    */
   public static <T> Set<T> randomSetFrom(
       Supplier<T> elementSupplier, Range<Integer> attemptedSize) {
-    return Sets.newHashSet(randomListFrom(elementSupplier, attemptedSize));
+    return randomSetFrom(elementSupplier, RandomSizes.randomSize(attemptedSize));
+  }
+
+  /**
+   * Returns a set filled randomly from the given element supplier. This will randomly put between
+   * <code>minAttemptedSize</code> and <code>maxAttemptedSize</code> (both inclusive) elements into
+   * the set, if any are equal then the returned set will contain less elements.
+   *
+   * @param elementSupplier element supplier to fill set from
+   * @param minAttemptedSize minimum attempted size of the set
+   * @param maxAttemptedSize maximum attempted size of the set
+   * @param <T> the type of element the given supplier returns
+   * @return set filled randomly from the given element supplier
+   * @throws IllegalArgumentException if minAttemptedSize is negative or if maxAttemptedSize is less
+   *     than minAttemptedSize
+   */
+  public static <T> Set<T> randomSetFrom(
+      Supplier<T> elementSupplier, int minAttemptedSize, int maxAttemptedSize) {
+    return randomSetFrom(
+        elementSupplier, RandomSizes.randomSize(minAttemptedSize, maxAttemptedSize));
   }
 
   /**
@@ -81,7 +144,116 @@ public final class RandomCollectionUtils {
    *     negative
    */
   public static <T> Set<T> randomSetFrom(Supplier<T> elementSupplier, int attemptedSize) {
-    return Sets.newHashSet(randomListFrom(elementSupplier, attemptedSize));
+    checkArgument(attemptedSize >= 0, "Size must be greater than or equal to zero");
+    Set<T> set = Sets.newHashSetWithExpectedSize(attemptedSize);
+    for (int i = 0; i < attemptedSize; i++) {
+      set.add(elementSupplier.get());
+    }
+    return set;
+  }
+
+  /**
+   * Returns a set of exactly <code>size</code> distinct elements from the given element supplier.
+   * Elements are drawn into a presized set until it reaches the given size.
+   *
+   * <p>To guard against suppliers with fewer distinct elements than the given size, drawing stops
+   * once the supplier returned only elements already in the set for sixteen times as many draws in
+   * a row as the set has elements.
+   *
+   * @param elementSupplier element supplier to fill set from
+   * @param size size of the random set to return
+   * @param <T> the type of element the given supplier returns
+   * @return set of distinct elements from the given element supplier
+   * @throws IllegalArgumentException if the size is negative or if the supplier doesn't return
+   *     enough distinct elements
+   */
+  public static <T> Set<T> randomDistinctSetFrom(Supplier<T> elementSupplier, int size) {
+    checkArgument(size >= 0, "Size must be greater than or equal to zero");
+    Set<T> set = Sets.newHashSetWithExpectedSize(size);
+    addDistinct(set, elementSupplier, size);
+    return set;
+  }
+
+  /**
+   * Returns a set of exactly <code>size</code> distinct elements from the given element supplier,
+   * drawing elements in parallel on the common fork/join pool into a concurrent set. Every block of
+   * {@link ParallelRandom#BLOCK_SIZE} elements is drawn by a single task that adds exactly that
+   * many distinct elements, so no task overshoots the given size.
+   *
+   * <p>The given supplier is called concurrently and must not return null. While a block is drawn,
+   * random values are drawn from a source confined to it (see {@link ParallelRandom}). The same
+   * guard as {@link #randomDistinctSetFrom(Supplier, int)} applies to every task.
+   *
+   * @param elementSupplier element supplier to fill set from
+   * @param size size of the random set to return
+   * @param <T> the type of element the given supplier returns
+   * @return set of distinct elements from the given element supplier
+   * @throws IllegalArgumentException if the size is negative or if the supplier doesn't return
+   *     enough distinct elements
+   */
+  public static <T> Set<T> parallelRandomDistinctSetFrom(Supplier<T> elementSupplier, int size) {
+    checkArgument(size >= 0, "Size must be greater than or equal to zero");
+    Set<T> set = ConcurrentHashMap.newKeySet(size);
+    ParallelRandom.forEachBlock(
+        RandomSources.current(),
+        size,
+        (source, from, to) -> addDistinct(set, elementSupplier, to - from));
+    return set;
+  }
+
+  /**
+   * Returns a list of elements sampled randomly, without replacement, from the given elements. The
+   * list contains exactly <code>sampleSize</code> elements, each from a distinct position of the
+   * given elements, in random order.
+   *
+   * <p>A sample from a {@link RandomAccess} {@link List} takes time and memory proportional to the
+   * sample size, rather than to the number of elements. Any other {@link Iterable} is sampled in a
+   * single pass keeping only the sample in memory.
+   *
+   * @param elements elements to sample from
+   * @param sampleSize range that the size of the sample will be randomly chosen from
+   * @param <T> the type of elements in the given iterable
+   * @return list of elements sampled randomly from the given elements
+   * @throws IllegalArgumentException if the sample size range contains negative integers or if the
+   *     sample size is greater than the number of elements
+   */
+  public static <T> List<T> randomSampleFrom(Iterable<T> elements, Range<Integer> sampleSize) {
+    return randomSampleFrom(elements, RandomSizes.randomSize(sampleSize));
+  }
+
+  /**
+   * Returns a list of elements sampled randomly, without replacement, from the given elements. The
+   * list contains exactly <code>sampleSize</code> elements, each from a distinct position of the
+   * given elements, in random order.
+   *
+   * <p>A sample from a {@link RandomAccess} {@link List} takes time and memory proportional to the
+   * sample size, rather than to the number of elements. Any other {@link Iterable} is sampled in a
+   * single pass keeping only the sample in memory.
+   *
+   * @param elements elements to sample from
+   * @param sampleSize size of the sample to return
+   * @param <T> the type of elements in the given iterable
+   * @return list of elements sampled randomly from the given elements
+   * @throws IllegalArgumentException if the sample size is negative or greater than the number of
+   *     elements
+   */
+  public static <T> List<T> randomSampleFrom(Iterable<T> elements, int sampleSize) {
+    checkArgument(sampleSize >= 0, "Size must be greater than or equal to zero");
+    RandomSource source = RandomSources.current();
+    if (elements instanceof Collection) {
+      checkArgument(
+          sampleSize <= ((Collection<T>) elements).size(),
+          "Sample size must not be greater than the number of elements");
+    }
+    if (elements instanceof List && elements instanceof RandomAccess) {
+      List<T> list = (List<T>) elements;
+      List<T> sample = new ArrayList<>(sampleSize);
+      for (int index : randomIndexes(source, list.size(), sampleSize)) {
+        sample.add(list.get(index));
+      }
+      return sample;
+    }
+    return reservoirSample(source, elements, sampleSize);
   }
 
   /**
@@ -96,7 +268,23 @@ public final class RandomCollectionUtils {
    */
   public static <T> List<T> randomListFrom(Iterable<T> elements, Range<Integer> size) {
     checkArgument(!isEmpty(elements), "Elements to populate from must not be empty");
-    return randomListFrom(() -> IterableUtils.randomFrom(elements), size);
+    return randomListFrom(IterableUtils.randomElementSupplier(elements), size);
+  }
+
+  /**
+   * Returns a list filled randomly from the given elements.
+   *
+   * @param elements elements to randomly fill list from
+   * @param minSize minimum size of the list
+   * @param maxSize maximum size of the list
+   * @param <T> the type of elements in the given iterable
+   * @return list filled randomly from the given elements
+   * @throws IllegalArgumentException if the elements to fill list from is empty, if minSize is
+   *     negative or if maxSize is less than minSize
+   */
+  public static <T> List<T> randomListFrom(Iterable<T> elements, int minSize, int maxSize) {
+    checkArgument(!isEmpty(elements), "Elements to populate from must not be empty");
+    return randomListFrom(IterableUtils.randomElementSupplier(elements), minSize, maxSize);
   }
 
   /**
@@ -111,7 +299,7 @@ public final class RandomCollectionUtils {
    */
   public static <T> List<T> randomListFrom(Iterable<T> elements, int size) {
     checkArgument(!isEmpty(elements), "Elements to populate from must not be empty");
-    return randomListFrom(() -> IterableUtils.randomFrom(elements), size);
+    return randomListFrom(IterableUtils.randomElementSupplier(elements), size);
   }
 
   /**
@@ -124,12 +312,21 @@ public final class RandomCollectionUtils {
    * @throws IllegalArgumentException if the size range contains negative integers
    */
   public static <T> List<T> randomListFrom(Supplier<T> elementSupplier, Range<Integer> size) {
-    checkArgument(
-        size.hasLowerBound() && size.lowerEndpoint() >= 0,
-        "Size range must consist of only positive integers");
-    Set<Integer> rangeSet = ContiguousSet.create(size, DiscreteDomain.integers());
-    int limit = IterableUtils.randomFrom(rangeSet);
-    return randomListFrom(elementSupplier, limit);
+    return randomListFrom(elementSupplier, RandomSizes.randomSize(size));
+  }
+
+  /**
+   * Returns a list filled from the given element supplier.
+   *
+   * @param elementSupplier element supplier to fill list from
+   * @param minSize minimum size of the list
+   * @param maxSize maximum size of the list
+   * @param <T> the type of element the given supplier returns
+   * @return list filled from the given element supplier
+   * @throws IllegalArgumentException if minSize is negative or if maxSize is less than minSize
+   */
+  public static <T> List<T> randomListFrom(Supplier<T> elementSupplier, int minSize, int maxSize) {
+    return randomListFrom(elementSupplier, RandomSizes.randomSize(minSize, maxSize));
   }
 
   /**
@@ -143,6 +340,159 @@ public final class RandomCollectionUtils {
    */
   public static <T> List<T> randomListFrom(Supplier<T> elementSupplier, int size) {
     checkArgument(size >= 0, "Size must be greater than or equal to zero");
-    return Stream.generate(elementSupplier).limit(size).collect(Collectors.toList());
+    return randomCollectionFrom(elementSupplier, size, new ArrayList<>(size));
+  }
+
+  /**
+   * Returns an immutable list filled from the given element supplier, built straight from a
+   * builder of the given size.
+   *
+   * @param elementSupplier element supplier to fill list from, must not return null
+   * @param size of the random list to return
+   * @param <T> the type of element the given supplier returns
+   * @return immutable list filled from the given element supplier
+   * @throws IllegalArgumentException if the size is negative
+   */
+  public static <T> ImmutableList<T> randomImmutableListFrom(
+      Supplier<T> elementSupplier, int size) {
+    checkArgument(size >= 0, "Size must be greater than or equal to zero");
+    ImmutableList.Builder<T> builder = ImmutableList.builderWithExpectedSize(size);
+    for (int i = 0; i < size; i++) {
+      builder.add(elementSupplier.get());
+    }
+    return builder.build();
+  }
+
+  /**
+   * Adds the given number of elements from the given element supplier to the given collection.
+   *
+   * <pre>
+   *   Deque&lt;Instant&gt; instants =
+   *       RandomCollectionUtils.randomCollectionFrom(
+   *           RandomDateUtils::randomInstant, 10, new ArrayDeque&lt;&gt;(10));
+   * </pre>
+   *
+   * @param elementSupplier element supplier to fill collection from
+   * @param size number of elements to add to the collection
+   * @param collection collection to add the elements to
+   * @param <T> the type of element the given supplier returns
+   * @param <C> the type of the given collection
+   * @return the given collection
+   * @throws IllegalArgumentException if the size is negative
+   */
+  public static <T, C extends Collection<? super T>> C randomCollectionFrom(
+      Supplier<T> elementSupplier, int size, C collection) {
+    checkArgument(size >= 0, "Size must be greater than or equal to zero");
+    for (int i = 0; i < size; i++) {
+      collection.add(elementSupplier.get());
+    }
+    return collection;
+  }
+
+  /**
+   * Returns a list filled randomly from the given elements, filling blocks of the list in parallel
+   * on the common fork/join pool. The elements are copied once, unless they're a {@link
+   * RandomAccess} list, so every element of the list takes constant time to fill.
+   *
+   * @param elements elements to randomly fill list from
+   * @param size of the random list to return
+   * @param <T> the type of elements in the given iterable
+   * @return list filled randomly from the given elements
+   * @throws IllegalArgumentException if the elements to fill list from is empty or if the size is
+   *     negative
+   * @see #parallelRandomListFrom(Supplier, int)
+   */
+  public static <T> List<T> parallelRandomListFrom(Iterable<T> elements, int size) {
+    checkArgument(!isEmpty(elements), "Elements to populate from must not be empty");
+    return parallelRandomListFrom(IterableUtils.randomElementSupplier(elements), size);
+  }
+
+  /**
+   * Returns a list filled from the given element supplier, filling blocks of the list in parallel
+   * on the common fork/join pool (see {@link ParallelRandom}).
+   *
+   * <p>The given supplier is called concurrently. While a block is filled, random values are drawn
+   * from a source confined to it, so filling from a seeded source is reproducible.
+   *
+   * @param elementSupplier element supplier to fill list from
+   * @param size of the random list to return
+   * @param <T> the type of element the given supplier returns
+   * @return list filled from the given element supplier
+   * @throws IllegalArgumentException if the size is negative
+   */
+  public static <T> List<T> parallelRandomListFrom(Supplier<T> elementSupplier, int size) {
+    checkArgument(size >= 0, "Size must be greater than or equal to zero");
+    List<T> list = new ArrayList<>(Collections.nCopies(size, null));
+    ParallelRandom.forEachBlock(
+        RandomSources.current(),
+        size,
+        (source, from, to) -> {
+          for (int i = from; i < to; i++) {
+            list.set(i, elementSupplier.get());
+          }
+        });
+    return list;
+  }
+
+  /**
+   * Adds the given number of elements from the given supplier, that aren't in the given set yet, to
+   * the given set.
+   */
+  private static <T> void addDistinct(Set<T> set, Supplier<T> elementSupplier, int count) {
+    int added = 0;
+    long duplicates = 0;
+    while (added < count) {
+      if (set.add(elementSupplier.get())) {
+        added++;
+        duplicates = 0;
+      } else {
+        duplicates++;
+        checkArgument(
+            duplicates <= DUPLICATE_DRAWS_PER_ELEMENT * (set.size() + 1L),
+            "Element supplier did not return enough distinct elements");
+      }
+    }
+  }
+
+  /**
+   * Returns the given number of distinct random indexes below the given bound, in random order.
+   * Few indexes out of many are chosen with Floyd's algorithm in time and memory proportional to
+   * their number, otherwise the indexes are chosen by a partial Fisher-Yates shuffle.
+   */
+  private static int[] randomIndexes(RandomSource source, int bound, int count) {
+    int[] indexes;
+    if (count <= bound / FLOYD_SAMPLE_RATIO) {
+      Set<Integer> chosen = Sets.newHashSetWithExpectedSize(count);
+      indexes = new int[count];
+      for (int i = 0, j = bound - count; j < bound; i++, j++) {
+        int index = source.nextInt(0, j + 1);
+        indexes[i] = chosen.add(index) ? index : j;
+        chosen.add(indexes[i]);
+      }
+      ArrayUtils.shuffle(indexes);
+      return indexes;
+    }
+    indexes = new int[bound];
+    for (int i = 0; i < bound; i++) {
+      indexes[i] = i;
+    }
+    ArrayUtils.partialShuffle(indexes, count);
+    return Arrays.copyOf(indexes, count);
+  }
+
+  /**
+   * Returns a random sample of the given size from the given elements in a single pass, using a
+   * reservoir of the sample's size.
+   *
+   * @see Reservoir
+   */
+  private static <T> List<T> reservoirSample(
+      RandomSource source, Iterable<T> elements, int sampleSize) {
+    Reservoir.Objects<T> reservoir = new Reservoir.Objects<>(sampleSize, source);
+    elements.forEach(reservoir::add);
+    checkArgument(
+        reservoir.count() >= sampleSize,
+        "Sample size must not be greater than the number of elements");
+    return reservoir.toShuffledList();
   }
 }
@@ -0,0 +1,191 @@
+package com.github.rkumsher.collection;
+
+import static com.google.common.base.Preconditions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collector;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import com.github.rkumsher.random.RandomSource;
+import com.github.rkumsher.random.RandomSources;
+
+/**
+ * Utility library of {@link Collector}s that randomly sample the elements of a stream, which can be
+ * of unknown size and only be read once.
+ *
+ * <pre>
+ *   List&lt;String&gt; lines = Files.lines(path).collect(RandomCollectors.reservoirSample(100));
+ * </pre>
+ *
+ * <p>The samples are kept in reservoirs of the sample size, so memory doesn't grow with the number
+ * of elements. Partial reservoirs of a parallel stream are merged without giving up uniformity.
+ * Random values are drawn from the {@link RandomSources#current() current source} of the thread
+ * creating each reservoir.
+ */
+public final class RandomCollectors {
+
+  private RandomCollectors() {}
+
+  /**
+   * Returns a {@link Collector} of a uniform random sample of the given size, in random order, of
+   * the elements of a stream. If the stream has fewer elements than the sample size, all of them
+   * are returned.
+   *
+   * @param sampleSize the maximum number of elements to sample
+   * @param <T> the type of elements to sample
+   * @return {@link Collector} of a random sample of the elements
+   * @throws IllegalArgumentException if sampleSize is negative
+   */
+  public static <T> Collector<T, ?, List<T>> reservoirSample(int sampleSize) {
+    checkArgument(sampleSize >= 0, "Size must be greater than or equal to zero");
+    return Collector.of(
+        () -> new Reservoir.Objects<T>(sampleSize, RandomSources.current()),
+        Reservoir.Objects::add,
+        Reservoir.Objects::combine,
+        Reservoir.Objects::toShuffledList,
+        Collector.Characteristics.UNORDERED);
+  }
+
+  /**
+   * Returns a {@link Collector} of a weighted random sample of the given size, without
+   * replacement, of the elements of a stream. Every element is drawn with a probability
+   * proportional to its weight among the elements not drawn yet, and the sample is returned in
+   * the order it's drawn. Elements with a weight of zero are never drawn, so fewer elements than
+   * the sample size may be returned.
+   *
+   * <p>Every element is given a random key based on its weight and the elements with the largest
+   * keys are kept (Efraimidis and Spirakis' Algorithm A-ES).
+   *
+   * @param sampleSize the maximum number of elements to sample
+   * @param weigher function returning the weight of an element
+   * @param <T> the type of elements to sample
+   * @return {@link Collector} of a weighted random sample of the elements
+   * @throws IllegalArgumentException if sampleSize is negative, or if a weight is negative or not
+   *     finite when collecting
+   */
+  public static <T> Collector<T, ?, List<T>> weightedReservoirSample(
+      int sampleSize, ToDoubleFunction<? super T> weigher) {
+    checkArgument(sampleSize >= 0, "Size must be greater than or equal to zero");
+    return Collector.of(
+        () -> new WeightedReservoir<T>(sampleSize, weigher, RandomSources.current()),
+        WeightedReservoir::add,
+        WeightedReservoir::combine,
+        WeightedReservoir::toList,
+        Collector.Characteristics.UNORDERED);
+  }
+
+  /**
+   * Returns a uniform random sample of the given size, in random order, of the elements of the
+   * given {@link IntStream}, without boxing them. If the stream has fewer elements than the sample
+   * size, all of them are returned.
+   *
+   * @param stream {@link IntStream} to sample, sequential or parallel
+   * @param sampleSize the maximum number of elements to sample
+   * @return random sample of the elements
+   * @throws IllegalArgumentException if sampleSize is negative
+   */
+  public static int[] reservoirSample(IntStream stream, int sampleSize) {
+    checkArgument(sampleSize >= 0, "Size must be greater than or equal to zero");
+    return stream
+        .collect(
+            () -> new Reservoir.Ints(sampleSize, RandomSources.current()),
+            Reservoir.Ints::add,
+            Reservoir.Ints::merge)
+        .toShuffledArray();
+  }
+
+  /**
+   * Returns a uniform random sample of the given size, in random order, of the elements of the
+   * given {@link LongStream}, without boxing them. If the stream has fewer elements than the sample
+   * size, all of them are returned.
+   *
+   * @param stream {@link LongStream} to sample, sequential or parallel
+   * @param sampleSize the maximum number of elements to sample
+   * @return random sample of the elements
+   * @throws IllegalArgumentException if sampleSize is negative
+   */
+  public static long[] reservoirSample(LongStream stream, int sampleSize) {
+    checkArgument(sampleSize >= 0, "Size must be greater than or equal to zero");
+    return stream
+        .collect(
+            () -> new Reservoir.Longs(sampleSize, RandomSources.current()),
+            Reservoir.Longs::add,
+            Reservoir.Longs::merge)
+        .toShuffledArray();
+  }
+
+  /**
+   * Reservoir of the elements with the largest keys, where the key of an element is the logarithm
+   * of a random double divided by its weight. Merging keeps the largest keys of both reservoirs.
+   */
+  private static final class WeightedReservoir<T> {
+
+    private static final Comparator<Keyed<?>> BY_KEY =
+        Comparator.comparingDouble(keyed -> keyed.key);
+
+    private final int sampleSize;
+    private final ToDoubleFunction<? super T> weigher;
+    private final RandomSource source;
+    private final PriorityQueue<Keyed<T>> heap;
+
+    WeightedReservoir(int sampleSize, ToDoubleFunction<? super T> weigher, RandomSource source) {
+      this.sampleSize = sampleSize;
+      this.weigher = weigher;
+      this.source = source;
+      this.heap = new PriorityQueue<>(Math.min(sampleSize, 16) + 1, BY_KEY);
+    }
+
+    void add(T element) {
+      double weight = weigher.applyAsDouble(element);
+      checkArgument(
+          weight >= 0 && weight < Double.POSITIVE_INFINITY,
+          "Weights must be non-negative and finite");
+      if (weight == 0 || sampleSize == 0) {
+        return;
+      }
+      double key = Math.log(1 - source.nextDouble()) / weight;
+      offer(new Keyed<>(key, element));
+    }
+
+    WeightedReservoir<T> combine(WeightedReservoir<T> other) {
+      other.heap.forEach(this::offer);
+      return this;
+    }
+
+    List<T> toList() {
+      List<Keyed<T>> sorted = new ArrayList<>(heap);
+      sorted.sort(Collections.reverseOrder(BY_KEY));
+      List<T> sample = new ArrayList<>(sorted.size());
+      for (Keyed<T> keyed : sorted) {
+        sample.add(keyed.element);
+      }
+      return sample;
+    }
+
+    private void offer(Keyed<T> keyed) {
+      if (heap.size() < sampleSize) {
+        heap.add(keyed);
+      } else if (keyed.key > heap.peek().key) {
+        heap.poll();
+        heap.add(keyed);
+      }
+    }
+  }
+
+  private static final class Keyed<T> {
+
+    private final double key;
+    private final T element;
+
+    Keyed(double key, T element) {
+      this.key = key;
+      this.element = element;
+    }
+  }
+}
@@ -0,0 +1,184 @@
+package com.github.rkumsher.collection;
+
+import static com.google.common.base.Preconditions.*;
+
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+import com.github.rkumsher.random.RandomSource;
+import com.github.rkumsher.random.RandomSources;
+import com.github.rkumsher.random.SplitMix64;
+
+/**
+ * Lazy random permutation of the indexes between zero and a size, for visiting every index of a
+ * huge index space exactly once in random order without materializing a shuffled array.
+ *
+ * <pre>
+ *   RandomPermutation permutation = RandomPermutation.of(10_000_000_000L);
+ *   permutation.stream().parallel().forEach(index -&gt; warmUp(index));
+ * </pre>
+ *
+ * <p>The permutation is a keyed Feistel cipher over the smallest even number of bits covering the
+ * size, cycle-walking until the result lies below the size. Since that domain is less than four
+ * times the size, fewer than four encryptions are needed per index on average. The permutation
+ * takes constant memory, can be evaluated at any index and is immutable and thread-safe.
+ *
+ * <p>The keys are drawn from {@link RandomSources#current()} when the permutation is created, so a
+ * permutation created with a seeded source can be recreated, for instance to resume a walk.
+ */
+public final class RandomPermutation {
+
+  private static final int ROUNDS = 4;
+
+  private final long size;
+  private final int halfBits;
+  private final long halfMask;
+  private final long[] roundKeys;
+
+  private RandomPermutation(long size, int halfBits, long[] roundKeys) {
+    this.size = size;
+    this.halfBits = halfBits;
+    this.halfMask = (1L << halfBits) - 1;
+    this.roundKeys = roundKeys;
+  }
+
+  /**
+   * Returns a new random permutation of the indexes between zero (inclusive) and the given size
+   * (exclusive).
+   *
+   * @param size the number of indexes to permute
+   * @return random permutation of the indexes between zero and size
+   * @throws IllegalArgumentException if size is negative
+   */
+  public static RandomPermutation of(long size) {
+    checkArgument(size >= 0, "Size must be greater than or equal to zero");
+    int bits = Math.max(2, 64 - Long.numberOfLeadingZeros(Math.max(size, 1) - 1));
+    RandomSource source = RandomSources.current();
+    long[] roundKeys = new long[ROUNDS];
+    for (int round = 0; round < ROUNDS; round++) {
+      roundKeys[round] = source.nextLong();
+    }
+    return new RandomPermutation(size, (bits + 1) / 2, roundKeys);
+  }
+
+  /**
+   * Returns the number of indexes of this permutation.
+   *
+   * @return the number of indexes
+   */
+  public long size() {
+    return size;
+  }
+
+  /**
+   * Returns the index the given position of this permutation maps to.
+   *
+   * @param position position between zero (inclusive) and the size (exclusive)
+   * @return the index at the given position
+   * @throws IllegalArgumentException if position is negative or not less than the size
+   */
+  public long get(long position) {
+    checkArgument(
+        position >= 0 && position < size, "Position must be between zero and the size (exclusive)");
+    return permute(position);
+  }
+
+  /**
+   * Returns an iterator over the indexes of this permutation, in permuted order.
+   *
+   * @return iterator over the permuted indexes
+   */
+  public PrimitiveIterator.OfLong iterator() {
+    return Spliterators.iterator(spliterator());
+  }
+
+  /**
+   * Returns a {@link Spliterator} over the indexes of this permutation, in permuted order. The
+   * spliterator splits its positions in halves, so the walk can run in parallel.
+   *
+   * @return spliterator over the permuted indexes
+   */
+  public Spliterator.OfLong spliterator() {
+    return new PermutationSpliterator(0, size);
+  }
+
+  /**
+   * Returns a sequential {@link LongStream} of the indexes of this permutation, in permuted order.
+   *
+   * @return stream of the permuted indexes
+   */
+  public LongStream stream() {
+    return StreamSupport.longStream(spliterator(), false);
+  }
+
+  private long permute(long position) {
+    long index = position;
+    do {
+      index = encrypt(index);
+    } while (Long.compareUnsigned(index, size) >= 0);
+    return index;
+  }
+
+  private long encrypt(long value) {
+    long left = (value >>> halfBits) & halfMask;
+    long right = value & halfMask;
+    for (long roundKey : roundKeys) {
+      long mixed = left ^ (SplitMix64.mix64(right ^ roundKey) & halfMask);
+      left = right;
+      right = mixed;
+    }
+    return (left << halfBits) | right;
+  }
+
+  private final class PermutationSpliterator implements Spliterator.OfLong {
+
+    private long position;
+    private final long fence;
+
+    PermutationSpliterator(long position, long fence) {
+      this.position = position;
+      this.fence = fence;
+    }
+
+    @Override
+    public OfLong trySplit() {
+      long middle = (position + fence) >>> 1;
+      if (middle <= position) {
+        return null;
+      }
+      PermutationSpliterator prefix = new PermutationSpliterator(position, middle);
+      position = middle;
+      return prefix;
+    }
+
+    @Override
+    public boolean tryAdvance(LongConsumer action) {
+      if (position >= fence) {
+        return false;
+      }
+      action.accept(permute(position++));
+      return true;
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+      for (; position < fence; position++) {
+        action.accept(permute(position));
+      }
+    }
+
+    @Override
+    public long estimateSize() {
+      return fence - position;
+    }
+
+    @Override
+    public int characteristics() {
+      return SIZED | SUBSIZED | ORDERED | DISTINCT | NONNULL | IMMUTABLE;
+    }
+  }
+}
@@ -0,0 +1,53 @@
+package com.github.rkumsher.collection;
+
+import static com.google.common.base.Preconditions.*;
+
+import com.github.rkumsher.random.RandomSources;
+import com.google.common.collect.BoundType;
+import com.google.common.collect.Range;
+
+/**
+ * Chooses the sizes of random collections and arrays in constant time, straight from the bounds
+ * of the range to choose from.
+ */
+final class RandomSizes {
+
+  private RandomSizes() {}
+
+  /**
+   * Returns a size randomly chosen from the given range, which may be open, closed or unbounded
+   * above. A range unbounded above is capped at {@link Integer#MAX_VALUE}.
+   *
+   * @throws IllegalArgumentException if the range is unbounded below, contains negative integers
+   *     or contains no integers at all
+   */
+  static int randomSize(Range<Integer> size) {
+    checkArgument(
+        size.hasLowerBound() && size.lowerEndpoint() >= 0,
+        "Size range must consist of only positive integers");
+    long minSize =
+        size.lowerBoundType() == BoundType.CLOSED
+            ? size.lowerEndpoint()
+            : size.lowerEndpoint() + 1L;
+    long maxSize = Integer.MAX_VALUE;
+    if (size.hasUpperBound()) {
+      maxSize =
+          size.upperBoundType() == BoundType.CLOSED
+              ? size.upperEndpoint()
+              : size.upperEndpoint() - 1L;
+    }
+    checkArgument(minSize <= maxSize, "Size range must not be empty");
+    return (int) RandomSources.current().nextLong(minSize, maxSize + 1);
+  }
+
+  /**
+   * Returns a size randomly chosen between the given sizes, both inclusive.
+   *
+   * @throws IllegalArgumentException if minSize is negative or greater than maxSize
+   */
+  static int randomSize(int minSize, int maxSize) {
+    checkArgument(minSize >= 0, "Size range must consist of only positive integers");
+    checkArgument(minSize <= maxSize, "Max size must be greater than or equal to min size");
+    return (int) RandomSources.current().nextLong(minSize, maxSize + 1L);
+  }
+}
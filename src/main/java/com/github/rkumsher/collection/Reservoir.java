@@ -0,0 +1,257 @@
+package com.github.rkumsher.collection;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.github.rkumsher.random.RandomSource;
+
+/**
+ * Base of the reservoirs behind the sampling collectors of {@link RandomCollectors}, which keep a
+ * uniform random sample of the elements added so far.
+ *
+ * <p>Once the reservoir is full, the number of elements to skip before the next replacement is
+ * drawn directly (Li's Algorithm L), so only a logarithmic number of random values is drawn. Two
+ * reservoirs are merged by drawing how many elements of the merged sample come from either one, as
+ * if sampling without replacement from their combined elements, and then taking that many elements
+ * from each at random. Elements added after a merge are sampled with Algorithm R.
+ */
+abstract class Reservoir<R extends Reservoir<R>> {
+
+  private static final int INITIAL_CAPACITY = 16;
+
+  private final int sampleSize;
+  private final RandomSource source;
+  private int size;
+  private long count;
+  private double weight;
+  private long nextReplacement;
+  private boolean merged;
+
+  Reservoir(int sampleSize, RandomSource source) {
+    this.sampleSize = sampleSize;
+    this.source = source;
+  }
+
+  /** Returns the number of slots to allocate before the given number of slots is needed. */
+  final int initialCapacity() {
+    return Math.min(sampleSize, INITIAL_CAPACITY);
+  }
+
+  /** Ensures that there are at least the given number of slots. */
+  abstract void ensureCapacity(int capacity);
+
+  abstract void swap(int i, int j);
+
+  /** Copies the element in the given slot of the other reservoir into the given slot. */
+  abstract void copy(R other, int fromSlot, int toSlot);
+
+  /** Returns the number of elements added to this reservoir, including merged reservoirs. */
+  final long count() {
+    return count;
+  }
+
+  /** Returns the number of elements sampled. */
+  final int size() {
+    return size;
+  }
+
+  /** Returns the slot to store the next element in, or -1 if the element is skipped. */
+  final int nextSlot() {
+    count++;
+    if (size < sampleSize) {
+      ensureCapacity(size + 1);
+      if (size + 1 == sampleSize && !merged) {
+        weight = 1;
+        nextReplacement = count;
+        advance();
+      }
+      return size++;
+    }
+    if (merged) {
+      long index = source.nextLong(0, count);
+      return index < sampleSize ? (int) index : -1;
+    }
+    if (count < nextReplacement || sampleSize == 0) {
+      return -1;
+    }
+    advance();
+    return source.nextInt(0, sampleSize);
+  }
+
+  private void advance() {
+    weight *= Math.exp(Math.log(nextOpenDouble()) / sampleSize);
+    nextReplacement += (long) Math.floor(Math.log(nextOpenDouble()) / Math.log1p(-weight)) + 1;
+  }
+
+  /** Returns a random double between zero (exclusive) and one (inclusive). */
+  private double nextOpenDouble() {
+    return 1 - source.nextDouble();
+  }
+
+  /** Merges the sample of the given reservoir into the sample of this one. */
+  final void merge(R other) {
+    Reservoir<R> that = other;
+    long remaining = count;
+    long otherRemaining = that.count;
+    int mergedSize = (int) Math.min(sampleSize, remaining + otherRemaining);
+    int fromThis = 0;
+    for (int i = 0; i < mergedSize; i++) {
+      if (source.nextLong(0, remaining + otherRemaining) < remaining) {
+        fromThis++;
+        remaining--;
+      } else {
+        otherRemaining--;
+      }
+    }
+    int fromOther = mergedSize - fromThis;
+    for (int i = 0; i < fromThis; i++) {
+      swap(i, source.nextInt(i, size));
+    }
+    for (int i = 0; i < fromOther; i++) {
+      that.swap(i, source.nextInt(i, that.size));
+    }
+    ensureCapacity(mergedSize);
+    for (int i = 0; i < fromOther; i++) {
+      copy(other, i, fromThis + i);
+    }
+    size = mergedSize;
+    count += that.count;
+    merged = true;
+  }
+
+  /** Reservoir of objects. */
+  static final class Objects<T> extends Reservoir<Objects<T>> {
+
+    private Object[] elements;
+
+    Objects(int sampleSize, RandomSource source) {
+      super(sampleSize, source);
+      elements = new Object[initialCapacity()];
+    }
+
+    void add(T element) {
+      int slot = nextSlot();
+      if (slot >= 0) {
+        elements[slot] = element;
+      }
+    }
+
+    Objects<T> combine(Objects<T> other) {
+      merge(other);
+      return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    List<T> toShuffledList() {
+      List<T> sample = new ArrayList<>((List<T>) Arrays.asList(elements).subList(0, size()));
+      IterableUtils.shuffle(sample);
+      return sample;
+    }
+
+    @Override
+    void ensureCapacity(int capacity) {
+      if (capacity > elements.length) {
+        elements = Arrays.copyOf(elements, Math.max(capacity, 2 * elements.length));
+      }
+    }
+
+    @Override
+    void swap(int i, int j) {
+      Object element = elements[i];
+      elements[i] = elements[j];
+      elements[j] = element;
+    }
+
+    @Override
+    void copy(Objects<T> other, int fromSlot, int toSlot) {
+      elements[toSlot] = other.elements[fromSlot];
+    }
+  }
+
+  /** Reservoir of ints. */
+  static final class Ints extends Reservoir<Ints> {
+
+    private int[] elements;
+
+    Ints(int sampleSize, RandomSource source) {
+      super(sampleSize, source);
+      elements = new int[initialCapacity()];
+    }
+
+    void add(int element) {
+      int slot = nextSlot();
+      if (slot >= 0) {
+        elements[slot] = element;
+      }
+    }
+
+    int[] toShuffledArray() {
+      int[] sample = Arrays.copyOf(elements, size());
+      ArrayUtils.shuffle(sample);
+      return sample;
+    }
+
+    @Override
+    void ensureCapacity(int capacity) {
+      if (capacity > elements.length) {
+        elements = Arrays.copyOf(elements, Math.max(capacity, 2 * elements.length));
+      }
+    }
+
+    @Override
+    void swap(int i, int j) {
+      int element = elements[i];
+      elements[i] = elements[j];
+      elements[j] = element;
+    }
+
+    @Override
+    void copy(Ints other, int fromSlot, int toSlot) {
+      elements[toSlot] = other.elements[fromSlot];
+    }
+  }
+
+  /** Reservoir of longs. */
+  static final class Longs extends Reservoir<Longs> {
+
+    private long[] elements;
+
+    Longs(int sampleSize, RandomSource source) {
+      super(sampleSize, source);
+      elements = new long[initialCapacity()];
+    }
+
+    void add(long element) {
+      int slot = nextSlot();
+      if (slot >= 0) {
+        elements[slot] = element;
+      }
+    }
+
+    long[] toShuffledArray() {
+      long[] sample = Arrays.copyOf(elements, size());
+      ArrayUtils.shuffle(sample);
+      return sample;
+    }
+
+    @Override
+    void ensureCapacity(int capacity) {
+      if (capacity > elements.length) {
+        elements = Arrays.copyOf(elements, Math.max(capacity, 2 * elements.length));
+      }
+    }
+
+    @Override
+    void swap(int i, int j) {
+      long element = elements[i];
+      elements[i] = elements[j];
+      elements[j] = element;
+    }
+
+    @Override
+    void copy(Longs other, int fromSlot, int toSlot) {
+      elements[toSlot] = other.elements[fromSlot];
+    }
+  }
+}
@@ -0,0 +1,115 @@
+package com.github.rkumsher.collection;
+
+import static com.google.common.base.Preconditions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.github.rkumsher.enums.RandomEnumUtils;
+import com.github.rkumsher.random.RandomSource;
+import com.github.rkumsher.random.RandomSources;
+
+/**
+ * Immutable, thread-safe sampler of random elements from a fixed pool, for drawing from the same
+ * pool many times.
+ *
+ * <pre>
+ *   Sampler&lt;String&gt; names = IterableUtils.sampler(loadNames());
+ *   for (int i = 0; i &lt; 1_000_000; i++) {
+ *     process(names.next());
+ *   }
+ * </pre>
+ *
+ * <p>The pool is validated and copied into an array once, when the sampler is created, so every
+ * draw takes constant time and allocates nothing. Random values are drawn from {@link
+ * RandomSources#current()}.
+ *
+ * @param <T> the type of elements to sample
+ * @see IterableUtils#sampler(Iterable)
+ * @see ArrayUtils#sampler(Object[])
+ * @see RandomEnumUtils#sampler(Class)
+ */
+public final class Sampler<T> {
+
+  private final Object[] elements;
+
+  Sampler(Object[] elements) {
+    this.elements = elements;
+  }
+
+  /**
+   * Returns the number of elements in the pool of this sampler.
+   *
+   * @return the number of elements
+   */
+  public int size() {
+    return elements.length;
+  }
+
+  /**
+   * Returns a random element from the pool.
+   *
+   * @return random element from the pool
+   */
+  @SuppressWarnings("unchecked")
+  public T next() {
+    return (T) elements[RandomSources.current().nextInt(0, elements.length)];
+  }
+
+  /**
+   * Returns a list of the given number of random elements from the pool, drawn with replacement.
+   *
+   * @param count number of elements to return
+   * @return list of random elements from the pool
+   * @throws IllegalArgumentException if count is negative
+   */
+  @SuppressWarnings("unchecked")
+  public List<T> next(int count) {
+    checkArgument(count >= 0, "Size must be greater than or equal to zero");
+    RandomSource source = RandomSources.current();
+    List<T> list = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      list.add((T) elements[source.nextInt(0, elements.length)]);
+    }
+    return list;
+  }
+
+  /**
+   * Returns a random element from the pool that's not in the values to exclude.
+   *
+   * @param excludes values to exclude
+   * @return random element from the pool that's not in the values to exclude
+   * @throws IllegalArgumentException if the pool only consists of the values to exclude
+   */
+  @SafeVarargs
+  public final T nextExcluding(T... excludes) {
+    return nextExcluding(Arrays.asList(excludes));
+  }
+
+  /**
+   * Returns a random element from the pool that's not in the values to exclude. The values to
+   * exclude are hashed once, unless they already are a {@link Set}.
+   *
+   * @param excludes values to exclude
+   * @return random element from the pool that's not in the values to exclude
+   * @throws IllegalArgumentException if the pool only consists of the values to exclude
+   */
+  @SuppressWarnings("unchecked")
+  public T nextExcluding(Collection<T> excludes) {
+    if (excludes.isEmpty()) {
+      return next();
+    }
+    Set<?> excluded = excludes instanceof Set ? (Set<?>) excludes : new HashSet<>(excludes);
+    int index =
+        ArrayUtils.randomIndex(
+            elements.length,
+            excluded.size(),
+            i -> excluded.contains(elements[i]),
+            "Sampler only consists of the given excludes");
+    return (T) elements[index];
+  }
+}
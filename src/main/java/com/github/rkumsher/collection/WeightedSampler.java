@@ -0,0 +1,199 @@
+package com.github.rkumsher.collection;
+
+import static com.google.common.base.Preconditions.*;
+
+import java.util.List;
+import java.util.Map;
+
+import com.github.rkumsher.random.RandomSource;
+import com.github.rkumsher.random.RandomSources;
+
+/**
+ * Immutable, thread-safe sampler that returns elements with a probability proportional to their
+ * weights.
+ *
+ * <pre>
+ *   WeightedSampler&lt;String&gt; operations =
+ *       WeightedSampler.of(ImmutableMap.of("read", 70, "write", 25, "delete", 5));
+ *   String operation = operations.next();
+ * </pre>
+ *
+ * <p>An alias table (Vose's method) is precomputed once when the sampler is created, after which
+ * every draw takes constant time, no matter the number of elements, and allocates nothing. Random
+ * values are drawn from {@link RandomSources#current()}.
+ */
+public final class WeightedSampler<T> {
+
+  private final Object[] elements;
+  private final double[] probabilities;
+  private final int[] aliases;
+
+  private WeightedSampler(Object[] elements, double[] weights) {
+    checkArgument(weights.length > 0, "Weights must not be empty");
+    checkArgument(
+        elements == null || elements.length == weights.length,
+        "Elements and weights must be of the same size");
+    this.elements = elements;
+    this.probabilities = new double[weights.length];
+    this.aliases = new int[weights.length];
+    buildAliasTable(weights);
+  }
+
+  /**
+   * Returns a sampler of the keys of the given map, weighted by their values.
+   *
+   * @param weights the weight of every element
+   * @param <T> the type of elements to sample
+   * @return the sampler
+   * @throws IllegalArgumentException if the map is empty, if a weight is null, negative or not
+   *     finite, or if all weights are zero
+   */
+  public static <T> WeightedSampler<T> of(Map<T, ? extends Number> weights) {
+    Object[] elements = new Object[weights.size()];
+    double[] primitiveWeights = new double[weights.size()];
+    int i = 0;
+    for (Map.Entry<T, ? extends Number> entry : weights.entrySet()) {
+      checkArgument(entry.getValue() != null, "Weights must be non-null");
+      elements[i] = entry.getKey();
+      primitiveWeights[i] = entry.getValue().doubleValue();
+      i++;
+    }
+    return new WeightedSampler<>(elements, primitiveWeights);
+  }
+
+  /**
+   * Returns a sampler of the given elements, where every element is weighted by the weight at the
+   * same index.
+   *
+   * @param elements the elements to sample
+   * @param weights the weight of every element
+   * @param <T> the type of elements to sample
+   * @return the sampler
+   * @throws IllegalArgumentException if there are no weights, if the number of elements and weights
+   *     differ, if a weight is negative or not finite, or if all weights are zero
+   */
+  public static <T> WeightedSampler<T> of(List<T> elements, double[] weights) {
+    return new WeightedSampler<>(elements.toArray(), weights);
+  }
+
+  /**
+   * Returns a sampler of the given elements, where every element is weighted by the weight at the
+   * same index.
+   *
+   * @param elements the elements to sample
+   * @param weights the weight of every element
+   * @param <T> the type of elements to sample
+   * @return the sampler
+   * @throws IllegalArgumentException if there are no weights, if the number of elements and weights
+   *     differ, if a weight is negative or not finite, or if all weights are zero
+   */
+  public static <T> WeightedSampler<T> of(T[] elements, double[] weights) {
+    return new WeightedSampler<>(elements.clone(), weights);
+  }
+
+  /**
+   * Returns a sampler of the indexes of the given weights, where every index is weighted by the
+   * weight at that index. Since no elements are held, this suits large vocabularies, which can be
+   * sampled without boxing through {@link #nextIndex()}.
+   *
+   * @param weights the weight of every index
+   * @return the sampler
+   * @throws IllegalArgumentException if there are no weights, if a weight is negative or not
+   *     finite, or if all weights are zero
+   */
+  public static WeightedSampler<Integer> of(double[] weights) {
+    return new WeightedSampler<>(null, weights);
+  }
+
+  /**
+   * Returns the number of elements of this sampler.
+   *
+   * @return the number of elements
+   */
+  public int size() {
+    return probabilities.length;
+  }
+
+  /**
+   * Returns a random element, with a probability proportional to its weight.
+   *
+   * @return the random element
+   */
+  @SuppressWarnings("unchecked")
+  public T next() {
+    int index = nextIndex();
+    return elements != null ? (T) elements[index] : (T) Integer.valueOf(index);
+  }
+
+  /**
+   * Returns the index of a random element, with a probability proportional to its weight.
+   *
+   * @return the index of the random element
+   */
+  public int nextIndex() {
+    RandomSource source = RandomSources.current();
+    int index = source.nextInt(0, probabilities.length);
+    return source.nextDouble() < probabilities[index] ? index : aliases[index];
+  }
+
+  /**
+   * Fills the alias table: every index keeps its own element with its probability and otherwise
+   * yields to its alias, so that every element ends up with a probability proportional to its
+   * weight. Weights are normalized by the heaviest weight so that their sum can't overflow.
+   * Elements without weight are paired like any other light element, with a probability of zero,
+   * and never keep their own index, so that rounding errors can never make them drawable.
+   */
+  private void buildAliasTable(double[] weights) {
+    int size = weights.length;
+    int heaviest = 0;
+    for (int i = 0; i < size; i++) {
+      checkArgument(
+          weights[i] >= 0 && weights[i] < Double.POSITIVE_INFINITY,
+          "Weights must be non-negative and finite");
+      if (weights[i] > weights[heaviest]) {
+        heaviest = i;
+      }
+    }
+    checkArgument(weights[heaviest] > 0, "Weights must not all be zero");
+
+    double sum = 0;
+    for (double weight : weights) {
+      sum += weight / weights[heaviest];
+    }
+    double[] scaled = new double[size];
+    int[] small = new int[size];
+    int[] large = new int[size];
+    int smallCount = 0;
+    int largeCount = 0;
+    for (int i = 0; i < size; i++) {
+      scaled[i] = weights[i] / weights[heaviest] / sum * size;
+      if (scaled[i] < 1) {
+        small[smallCount++] = i;
+      } else {
+        large[largeCount++] = i;
+      }
+    }
+    while (smallCount > 0 && largeCount > 0) {
+      int less = small[--smallCount];
+      int more = large[--largeCount];
+      probabilities[less] = scaled[less];
+      aliases[less] = more;
+      scaled[more] = (scaled[more] + scaled[less]) - 1;
+      if (scaled[more] < 1) {
+        small[smallCount++] = more;
+      } else {
+        large[largeCount++] = more;
+      }
+    }
+    while (largeCount > 0) {
+      int more = large[--largeCount];
+      probabilities[more] = 1;
+      aliases[more] = more;
+    }
+    while (smallCount > 0) {
+      int less = small[--smallCount];
+      probabilities[less] = weights[less] == 0 ? 0 : 1;
+      aliases[less] = weights[less] == 0 ? heaviest : less;
+    }
+  }
+}
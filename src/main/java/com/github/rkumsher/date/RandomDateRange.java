@@ -0,0 +1,106 @@
+package com.github.rkumsher.date;
+
+import static com.google.common.base.Preconditions.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongFunction;
+
+import com.github.rkumsher.random.ParallelRandom;
+import com.github.rkumsher.random.RandomSource;
+import com.github.rkumsher.random.RandomSources;
+
+/**
+ * Immutable, thread-safe generator of random dates within a fixed range, for drawing from the same
+ * range many times.
+ *
+ * <pre>
+ *   RandomDateRange&lt;Instant&gt; range = RandomDateUtils.instantRange(start, end);
+ *   for (int i = 0; i &lt; 1_000_000; i++) {
+ *     process(range.next());
+ *   }
+ * </pre>
+ *
+ * <p>The range is validated and converted to epoch units once, when the range is created, so every
+ * draw is a single bounded random long converted back to a date. Random values are drawn from
+ * {@link RandomSources#current()}.
+ *
+ * @param <T> the type of dates to return
+ * @see RandomDateUtils#instantRange(Instant, Instant)
+ * @see RandomDateUtils#localDateTimeRange(LocalDateTime, LocalDateTime)
+ * @see RandomDateUtils#localDateRange(LocalDate, LocalDate)
+ * @see RandomDateUtils#localTimeRange(LocalTime, LocalTime)
+ */
+public final class RandomDateRange<T> {
+
+  private final long startInclusive;
+  private final long endExclusive;
+  private final LongFunction<T> mapper;
+
+  RandomDateRange(long startInclusive, long endExclusive, LongFunction<T> mapper) {
+    this.startInclusive = startInclusive;
+    this.endExclusive = endExclusive;
+    this.mapper = mapper;
+  }
+
+  /**
+   * Returns a random date within this range, or the start of this range if it's empty.
+   *
+   * @return the random date
+   */
+  public T next() {
+    return next(RandomSources.current());
+  }
+
+  /**
+   * Returns a list of the given number of random dates within this range.
+   *
+   * @param count number of dates to return
+   * @return list of random dates
+   * @throws IllegalArgumentException if count is negative
+   */
+  public List<T> next(int count) {
+    checkArgument(count >= 0, "Size must be greater than or equal to zero");
+    RandomSource source = RandomSources.current();
+    List<T> list = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      list.add(next(source));
+    }
+    return list;
+  }
+
+  /** Fills the given array with random dates within this range, optionally in parallel blocks. */
+  T[] fill(T[] array, boolean parallel) {
+    if (parallel) {
+      ParallelRandom.forEachBlock(
+          RandomSources.current(),
+          array.length,
+          (source, fromIndex, toIndex) -> fill(source, array, fromIndex, toIndex));
+    } else {
+      fill(RandomSources.current(), array, 0, array.length);
+    }
+    return array;
+  }
+
+  private void fill(RandomSource source, T[] array, int fromIndex, int toIndex) {
+    if (startInclusive == endExclusive) {
+      Arrays.fill(array, fromIndex, toIndex, mapper.apply(startInclusive));
+      return;
+    }
+    for (int i = fromIndex; i < toIndex; i++) {
+      array[i] = mapper.apply(source.nextLong(startInclusive, endExclusive));
+    }
+  }
+
+  private T next(RandomSource source) {
+    if (startInclusive == endExclusive) {
+      return mapper.apply(startInclusive);
+    }
+    return mapper.apply(source.nextLong(startInclusive, endExclusive));
+  }
+}
@@ -10,10 +10,8 @@ import static com.github.rkumsher.number.RandomNumberUtils.randomPositiveLong;
 import static com.google.common.base.Preconditions.*;
 import static java.time.Month.DECEMBER;
 import static java.time.Month.JANUARY;
-import static java.time.temporal.ChronoField.NANO_OF_DAY;
 import static java.time.temporal.ChronoUnit.DAYS;
 import static java.time.temporal.ChronoUnit.MILLIS;
-import static java.time.temporal.ChronoUnit.MONTHS;
 
 import java.time.Clock;
 import java.time.DayOfWeek;
@@ -32,19 +30,24 @@ import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalField;
 import java.util.Date;
 
-import org.apache.commons.lang3.RandomUtils;
-
 import com.github.rkumsher.collection.IterableUtils;
 import com.github.rkumsher.enums.RandomEnumUtils;
+import com.github.rkumsher.number.RandomNumberUtils;
+import com.github.rkumsher.random.ParallelRandom;
+import com.github.rkumsher.random.RandomSource;
+import com.github.rkumsher.random.RandomSources;
 
 /**
  * Utility library to return random dates, e.g., {@link Instant}s, {@link ZonedDateTime}s, {@link
  * LocalDate}s, {@link Date}s, etc.
  *
  * <p>Note: All returned dates will be between 1970 and 9999.
+ *
+ * <p>All random values are drawn from {@link RandomSources#current()}.
  */
 public final class RandomDateUtils {
 
@@ -60,6 +63,12 @@ public final class RandomDateUtils {
   static final Instant MAX_INSTANT =
       Instant.ofEpochMilli(
           LocalDate.of(MAX_YEAR, 12, 31).atStartOfDay(UTC).toInstant().toEpochMilli());
+  private static final long MIN_EPOCH_DAY = LocalDate.of(MIN_YEAR, 1, 1).toEpochDay();
+  private static final long MAX_EPOCH_DAY = LocalDate.of(MAX_YEAR, 12, 31).toEpochDay();
+  private static final long MIN_PROLEPTIC_MONTH = prolepticMonth(YearMonth.of(MIN_YEAR, JANUARY));
+  private static final long MAX_PROLEPTIC_MONTH = prolepticMonth(YearMonth.of(MAX_YEAR, DECEMBER));
+  private static final long NANOS_PER_DAY = LocalTime.MAX.toNanoOfDay() + 1;
+  private static final long NANOS_PER_SECOND = 1_000_000_000;
 
   private RandomDateUtils() {}
 
@@ -284,6 +293,63 @@ public final class RandomDateUtils {
     return LocalDateTime.ofInstant(instant, UTC);
   }
 
+  /**
+   * Returns an array of the given size of random {@link LocalDateTime}s within the specified range.
+   * The range is validated once, no matter the size.
+   *
+   * @param size the number of {@link LocalDateTime}s to return
+   * @param startInclusive the earliest {@link LocalDateTime} that can be returned
+   * @param endExclusive the upper bound (not included)
+   * @return the random {@link LocalDateTime}s
+   * @throws IllegalArgumentException if the size is negative, if startInclusive or endExclusive
+   *     are null or if endExclusive is earlier than startInclusive
+   * @see #randomLocalDateTime(LocalDateTime, LocalDateTime)
+   */
+  public static LocalDateTime[] randomLocalDateTimes(
+      int size, LocalDateTime startInclusive, LocalDateTime endExclusive) {
+    return randomLocalDateTimes(size, startInclusive, endExclusive, false);
+  }
+
+  /**
+   * Returns an array of the given size of random {@link LocalDateTime}s within the specified range,
+   * filling blocks of the array in parallel on the common fork/join pool (see {@link
+   * ParallelRandom}).
+   *
+   * @param size the number of {@link LocalDateTime}s to return
+   * @param startInclusive the earliest {@link LocalDateTime} that can be returned
+   * @param endExclusive the upper bound (not included)
+   * @return the random {@link LocalDateTime}s
+   * @throws IllegalArgumentException if the size is negative, if startInclusive or endExclusive
+   *     are null or if endExclusive is earlier than startInclusive
+   * @see #randomLocalDateTimes(int, LocalDateTime, LocalDateTime)
+   */
+  public static LocalDateTime[] parallelRandomLocalDateTimes(
+      int size, LocalDateTime startInclusive, LocalDateTime endExclusive) {
+    return randomLocalDateTimes(size, startInclusive, endExclusive, true);
+  }
+
+  /**
+   * Returns a {@link RandomDateRange} of random {@link LocalDateTime}s within the specified range.
+   * The range is validated and converted once, so it's cheaper than calling {@link
+   * #randomLocalDateTime(LocalDateTime, LocalDateTime)} repeatedly with the same bounds.
+   *
+   * @param startInclusive the earliest {@link LocalDateTime} that can be returned
+   * @param endExclusive the upper bound (not included)
+   * @return the {@link RandomDateRange} of {@link LocalDateTime}s
+   * @throws IllegalArgumentException if startInclusive or endExclusive are null or if endExclusive
+   *     is earlier than startInclusive
+   */
+  public static RandomDateRange<LocalDateTime> localDateTimeRange(
+      LocalDateTime startInclusive, LocalDateTime endExclusive) {
+    checkArgument(startInclusive != null, "Start must be non-null");
+    checkArgument(endExclusive != null, "End must be non-null");
+    Instant startInstant = startInclusive.toInstant(UTC_OFFSET);
+    Instant endInstant = endExclusive.toInstant(UTC_OFFSET);
+    checkInstantRange(startInstant, endInstant);
+    return new RandomDateRange<>(
+        startInstant.toEpochMilli(), endInstant.toEpochMilli(), RandomDateUtils::ofEpochMilli);
+  }
+
   /**
    * Returns a random {@link LocalDate} between {@link RandomDateUtils#MIN_INSTANT} and {@link
    * RandomDateUtils#MAX_INSTANT}.
@@ -291,7 +357,7 @@ public final class RandomDateUtils {
    * @return the random {@link LocalDate}
    */
   public static LocalDate randomLocalDate() {
-    return randomInstant().atZone(UTC).toLocalDate();
+    return LocalDate.ofEpochDay(randomLong(MIN_EPOCH_DAY, MAX_EPOCH_DAY));
   }
 
   /**
@@ -306,10 +372,10 @@ public final class RandomDateUtils {
   public static LocalDate randomLocalDate(LocalDate startInclusive, LocalDate endExclusive) {
     checkArgument(startInclusive != null, "Start must be non-null");
     checkArgument(endExclusive != null, "End must be non-null");
-    Instant startInstant = startInclusive.atStartOfDay().toInstant(UTC_OFFSET);
-    Instant endInstant = endExclusive.atStartOfDay().toInstant(UTC_OFFSET);
-    Instant instant = randomInstant(startInstant, endInstant);
-    return instant.atZone(UTC).toLocalDate();
+    long startEpochDay = startInclusive.toEpochDay();
+    long endEpochDay = endExclusive.toEpochDay();
+    checkEpochDayRange(startEpochDay, endEpochDay);
+    return LocalDate.ofEpochDay(randomLong(startEpochDay, endEpochDay));
   }
 
   /**
@@ -331,8 +397,10 @@ public final class RandomDateUtils {
    */
   public static LocalDate randomLocalDateAfter(LocalDate after) {
     checkArgument(after != null, "After must be non-null");
-    Instant instant = randomInstantAfter(after.atStartOfDay(UTC).plus(1, DAYS).toInstant());
-    return instant.atZone(UTC).toLocalDate();
+    long startEpochDay = after.toEpochDay() + 1;
+    checkArgument(startEpochDay < MAX_EPOCH_DAY, "Cannot produce date after %s", MAX_INSTANT);
+    checkArgument(startEpochDay >= MIN_EPOCH_DAY, "Start must be on or after %s", MIN_INSTANT);
+    return LocalDate.ofEpochDay(randomLong(startEpochDay, MAX_EPOCH_DAY));
   }
 
   /**
@@ -354,8 +422,66 @@ public final class RandomDateUtils {
    */
   public static LocalDate randomLocalDateBefore(LocalDate before) {
     checkArgument(before != null, "Before must be non-null");
-    Instant instant = randomInstantBefore(before.atStartOfDay(UTC).toInstant());
-    return instant.atZone(UTC).toLocalDate();
+    long endEpochDay = before.toEpochDay();
+    checkArgument(endEpochDay > MIN_EPOCH_DAY, "Cannot produce date before %s", MIN_INSTANT);
+    checkArgument(endEpochDay <= MAX_EPOCH_DAY, "End must be on or before %s", MAX_INSTANT);
+    return LocalDate.ofEpochDay(randomLong(MIN_EPOCH_DAY, endEpochDay));
+  }
+
+  /**
+   * Returns an array of the given size of random {@link LocalDate}s within the specified range.
+   * The range is validated once, no matter the size, and the dates are drawn as epoch days.
+   *
+   * @param size the number of {@link LocalDate}s to return
+   * @param startInclusive the earliest {@link LocalDate} that can be returned
+   * @param endExclusive the upper bound (not included)
+   * @return the random {@link LocalDate}s
+   * @throws IllegalArgumentException if the size is negative, if startInclusive or endExclusive
+   *     are null or if endExclusive is earlier than startInclusive
+   * @see #randomLocalDate(LocalDate, LocalDate)
+   */
+  public static LocalDate[] randomLocalDates(
+      int size, LocalDate startInclusive, LocalDate endExclusive) {
+    return randomLocalDates(size, startInclusive, endExclusive, false);
+  }
+
+  /**
+   * Returns an array of the given size of random {@link LocalDate}s within the specified range,
+   * filling blocks of the array in parallel on the common fork/join pool (see {@link
+   * ParallelRandom}).
+   *
+   * @param size the number of {@link LocalDate}s to return
+   * @param startInclusive the earliest {@link LocalDate} that can be returned
+   * @param endExclusive the upper bound (not included)
+   * @return the random {@link LocalDate}s
+   * @throws IllegalArgumentException if the size is negative, if startInclusive or endExclusive
+   *     are null or if endExclusive is earlier than startInclusive
+   * @see #randomLocalDates(int, LocalDate, LocalDate)
+   */
+  public static LocalDate[] parallelRandomLocalDates(
+      int size, LocalDate startInclusive, LocalDate endExclusive) {
+    return randomLocalDates(size, startInclusive, endExclusive, true);
+  }
+
+  /**
+   * Returns a {@link RandomDateRange} of random {@link LocalDate}s within the specified range. The
+   * range is validated and converted to epoch days once, so it's cheaper than calling {@link
+   * #randomLocalDate(LocalDate, LocalDate)} repeatedly with the same bounds.
+   *
+   * @param startInclusive the earliest {@link LocalDate} that can be returned
+   * @param endExclusive the upper bound (not included)
+   * @return the {@link RandomDateRange} of {@link LocalDate}s
+   * @throws IllegalArgumentException if startInclusive or endExclusive are null or if endExclusive
+   *     is earlier than startInclusive
+   */
+  public static RandomDateRange<LocalDate> localDateRange(
+      LocalDate startInclusive, LocalDate endExclusive) {
+    checkArgument(startInclusive != null, "Start must be non-null");
+    checkArgument(endExclusive != null, "End must be non-null");
+    long startEpochDay = startInclusive.toEpochDay();
+    long endEpochDay = endExclusive.toEpochDay();
+    checkEpochDayRange(startEpochDay, endEpochDay);
+    return new RandomDateRange<>(startEpochDay, endEpochDay, LocalDate::ofEpochDay);
   }
 
   /**
@@ -452,19 +578,62 @@ public final class RandomDateUtils {
    *     is earlier than startInclusive
    */
   public static Instant randomInstant(Instant startInclusive, Instant endExclusive) {
+    checkInstantRange(startInclusive, endExclusive);
+    return Instant.ofEpochMilli(
+        randomLong(startInclusive.toEpochMilli(), endExclusive.toEpochMilli()));
+  }
+
+  /**
+   * Returns a random {@link Instant} of the given precision within the specified range, which can
+   * be anywhere between {@link Instant#MIN} and {@link Instant#MAX}. The returned {@link Instant}
+   * is a whole number of the precision since the epoch, e.g. it has no nanoseconds of the second
+   * if the precision is {@link ChronoUnit#MILLIS}.
+   *
+   * <p>The seconds and the fraction of the second are drawn as longs, so every {@link Instant} of
+   * the given precision within the range is equally likely.
+   *
+   * @param startInclusive the earliest {@link Instant} that can be returned
+   * @param endExclusive the upper bound (not included)
+   * @param precision the precision of the returned {@link Instant}, one of {@link
+   *     ChronoUnit#NANOS}, {@link ChronoUnit#MICROS}, {@link ChronoUnit#MILLIS} or {@link
+   *     ChronoUnit#SECONDS}
+   * @return the random {@link Instant}, or startInclusive if it's equal to endExclusive
+   * @throws IllegalArgumentException if startInclusive, endExclusive or precision are null, if
+   *     endExclusive is earlier than startInclusive, if the precision isn't supported or if there
+   *     is no {@link Instant} of the given precision within the range
+   */
+  public static Instant randomInstant(
+      Instant startInclusive, Instant endExclusive, ChronoUnit precision) {
     checkArgument(startInclusive != null, "Start must be non-null");
     checkArgument(endExclusive != null, "End must be non-null");
+    checkArgument(precision != null, "Precision must be non-null");
     checkArgument(!startInclusive.isAfter(endExclusive), "End must be on or after start");
-    checkArgument(
-        startInclusive.equals(MIN_INSTANT) || startInclusive.isAfter(MIN_INSTANT),
-        "Start must be on or after %s",
-        MIN_INSTANT);
-    checkArgument(
-        endExclusive.equals(MAX_INSTANT) || endExclusive.isBefore(MAX_INSTANT),
-        "End must be on or before %s",
-        MAX_INSTANT);
-    return Instant.ofEpochMilli(
-        RandomUtils.nextLong(startInclusive.toEpochMilli(), endExclusive.toEpochMilli()));
+    long ticksPerSecond = ticksPerSecond(precision);
+    long nanosPerTick = NANOS_PER_SECOND / ticksPerSecond;
+    long startSecond = startInclusive.getEpochSecond();
+    long startTick = (startInclusive.getNano() + nanosPerTick - 1) / nanosPerTick;
+    long endSecond = endExclusive.getEpochSecond();
+    long endTick = (endExclusive.getNano() + nanosPerTick - 1) / nanosPerTick;
+    if (endSecond - startSecond >= Long.MAX_VALUE / ticksPerSecond) {
+      RandomSource source = RandomSources.current();
+      long second;
+      long tick;
+      do {
+        second = source.nextLong(startSecond, endSecond + 1);
+        tick = source.nextLong(0, ticksPerSecond);
+      } while ((second == startSecond && tick < startTick)
+          || (second == endSecond && tick >= endTick));
+      return Instant.ofEpochSecond(second, tick * nanosPerTick);
+    }
+    long ticks = (endSecond - startSecond) * ticksPerSecond + endTick - startTick;
+    if (ticks == 0) {
+      checkArgument(
+          startInclusive.equals(endExclusive), "Range must include an instant of %s", precision);
+      return startInclusive;
+    }
+    long tick = startTick + randomLong(0, ticks);
+    return Instant.ofEpochSecond(
+        startSecond + tick / ticksPerSecond, tick % ticksPerSecond * nanosPerTick);
   }
 
   /**
@@ -513,13 +682,121 @@ public final class RandomDateUtils {
     return randomInstant(MIN_INSTANT, before);
   }
 
+  /**
+   * Fills the given array with random epoch milliseconds within the specified range. The range is
+   * validated once, no matter the length of the array, and no objects are allocated.
+   *
+   * @param destination the array to fill
+   * @param startInclusive the earliest {@link Instant} that can be returned
+   * @param endExclusive the upper bound (not included)
+   * @throws IllegalArgumentException if startInclusive or endExclusive are null or if endExclusive
+   *     is earlier than startInclusive
+   * @see #randomInstant(Instant, Instant)
+   */
+  public static void randomEpochMillis(
+      long[] destination, Instant startInclusive, Instant endExclusive) {
+    checkInstantRange(startInclusive, endExclusive);
+    long start = startInclusive.toEpochMilli();
+    long end = endExclusive.toEpochMilli();
+    RandomNumberUtils.fill(destination, start, end);
+  }
+
+  /**
+   * Fills the given array with random epoch milliseconds within the specified range, filling blocks
+   * of the array in parallel on the common fork/join pool (see {@link ParallelRandom}).
+   *
+   * @param destination the array to fill
+   * @param startInclusive the earliest {@link Instant} that can be returned
+   * @param endExclusive the upper bound (not included)
+   * @throws IllegalArgumentException if startInclusive or endExclusive are null or if endExclusive
+   *     is earlier than startInclusive
+   * @see #randomEpochMillis(long[], Instant, Instant)
+   */
+  public static void parallelRandomEpochMillis(
+      long[] destination, Instant startInclusive, Instant endExclusive) {
+    checkInstantRange(startInclusive, endExclusive);
+    long start = startInclusive.toEpochMilli();
+    long end = endExclusive.toEpochMilli();
+    RandomNumberUtils.parallelFill(destination, start, end);
+  }
+
+  /**
+   * Returns an array of the given size of random epoch milliseconds within the specified range.
+   *
+   * @param size the number of epoch milliseconds to return
+   * @param startInclusive the earliest {@link Instant} that can be returned
+   * @param endExclusive the upper bound (not included)
+   * @return the random epoch milliseconds
+   * @throws IllegalArgumentException if the size is negative, if startInclusive or endExclusive
+   *     are null or if endExclusive is earlier than startInclusive
+   * @see #randomEpochMillis(long[], Instant, Instant)
+   */
+  public static long[] randomEpochMillis(int size, Instant startInclusive, Instant endExclusive) {
+    checkArgument(size >= 0, "Size must be greater than or equal to zero");
+    long[] epochMillis = new long[size];
+    randomEpochMillis(epochMillis, startInclusive, endExclusive);
+    return epochMillis;
+  }
+
+  /**
+   * Returns an array of the given size of random {@link Instant}s within the specified range. The
+   * range is validated once, no matter the size.
+   *
+   * @param size the number of {@link Instant}s to return
+   * @param startInclusive the earliest {@link Instant} that can be returned
+   * @param endExclusive the upper bound (not included)
+   * @return the random {@link Instant}s
+   * @throws IllegalArgumentException if the size is negative, if startInclusive or endExclusive
+   *     are null or if endExclusive is earlier than startInclusive
+   * @see #randomInstant(Instant, Instant)
+   */
+  public static Instant[] randomInstants(int size, Instant startInclusive, Instant endExclusive) {
+    return randomInstants(size, startInclusive, endExclusive, false);
+  }
+
+  /**
+   * Returns an array of the given size of random {@link Instant}s within the specified range,
+   * filling blocks of the array in parallel on the common fork/join pool (see {@link
+   * ParallelRandom}).
+   *
+   * @param size the number of {@link Instant}s to return
+   * @param startInclusive the earliest {@link Instant} that can be returned
+   * @param endExclusive the upper bound (not included)
+   * @return the random {@link Instant}s
+   * @throws IllegalArgumentException if the size is negative, if startInclusive or endExclusive
+   *     are null or if endExclusive is earlier than startInclusive
+   * @see #randomInstants(int, Instant, Instant)
+   */
+  public static Instant[] parallelRandomInstants(
+      int size, Instant startInclusive, Instant endExclusive) {
+    return randomInstants(size, startInclusive, endExclusive, true);
+  }
+
+  /**
+   * Returns a {@link RandomDateRange} of random {@link Instant}s within the specified range. The
+   * range is validated and converted to epoch milliseconds once, so it's cheaper than calling
+   * {@link #randomInstant(Instant, Instant)} repeatedly with the same bounds.
+   *
+   * @param startInclusive the earliest {@link Instant} that can be returned
+   * @param endExclusive the upper bound (not included)
+   * @return the {@link RandomDateRange} of {@link Instant}s
+   * @throws IllegalArgumentException if startInclusive or endExclusive are null or if endExclusive
+   *     is earlier than startInclusive
+   */
+  public static RandomDateRange<Instant> instantRange(
+      Instant startInclusive, Instant endExclusive) {
+    checkInstantRange(startInclusive, endExclusive);
+    return new RandomDateRange<>(
+        startInclusive.toEpochMilli(), endExclusive.toEpochMilli(), Instant::ofEpochMilli);
+  }
+
   /**
    * Returns a random {@link LocalTime}.
    *
    * @return the random {@link LocalTime}
    */
   public static LocalTime randomLocalTime() {
-    return LocalTime.ofNanoOfDay(random(NANO_OF_DAY));
+    return LocalTime.ofNanoOfDay(randomLong(0, NANOS_PER_DAY));
   }
 
   /**
@@ -534,7 +811,8 @@ public final class RandomDateUtils {
   public static LocalTime randomLocalTime(LocalTime startInclusive, LocalTime endExclusive) {
     checkArgument(startInclusive != null, "Start must be non-null");
     checkArgument(endExclusive != null, "End must be non-null");
-    long nanoOfDay = random(NANO_OF_DAY, startInclusive.toNanoOfDay(), endExclusive.toNanoOfDay());
+    checkArgument(!startInclusive.isAfter(endExclusive), "End must be on or after start");
+    long nanoOfDay = randomLong(startInclusive.toNanoOfDay(), endExclusive.toNanoOfDay());
     return LocalTime.ofNanoOfDay(nanoOfDay);
   }
 
@@ -548,7 +826,7 @@ public final class RandomDateUtils {
   public static LocalTime randomLocalTimeAfter(LocalTime after) {
     checkArgument(after != null, "After must be non-null");
     checkArgument(after.isBefore(LocalTime.MAX), "After must be before %s", LocalTime.MAX);
-    long nanoOfDay = randomAfter(NANO_OF_DAY, after.toNanoOfDay() + 1);
+    long nanoOfDay = randomLong(after.toNanoOfDay() + 1, NANOS_PER_DAY);
     return LocalTime.ofNanoOfDay(nanoOfDay);
   }
 
@@ -562,10 +840,30 @@ public final class RandomDateUtils {
   public static LocalTime randomLocalTimeBefore(LocalTime before) {
     checkArgument(before != null, "Before must be non-null");
     checkArgument(before.isAfter(LocalTime.MIN), "Before must be after %s", LocalTime.MIN);
-    long nanoOfDay = randomBefore(NANO_OF_DAY, before.toNanoOfDay());
+    long nanoOfDay = randomLong(0, before.toNanoOfDay());
     return LocalTime.ofNanoOfDay(nanoOfDay);
   }
 
+  /**
+   * Returns a {@link RandomDateRange} of random {@link LocalTime}s within the specified range. The
+   * range is validated and converted to nanoseconds of the day once, so it's cheaper than calling
+   * {@link #randomLocalTime(LocalTime, LocalTime)} repeatedly with the same bounds.
+   *
+   * @param startInclusive the earliest {@link LocalTime} that can be returned
+   * @param endExclusive the upper bound (not included)
+   * @return the {@link RandomDateRange} of {@link LocalTime}s
+   * @throws IllegalArgumentException if startInclusive or endExclusive are null or if endExclusive
+   *     is earlier than startInclusive
+   */
+  public static RandomDateRange<LocalTime> localTimeRange(
+      LocalTime startInclusive, LocalTime endExclusive) {
+    checkArgument(startInclusive != null, "Start must be non-null");
+    checkArgument(endExclusive != null, "End must be non-null");
+    checkArgument(!startInclusive.isAfter(endExclusive), "End must be on or after start");
+    return new RandomDateRange<>(
+        startInclusive.toNanoOfDay(), endExclusive.toNanoOfDay(), LocalTime::ofNanoOfDay);
+  }
+
   /**
    * Returns a random valid value for the given {@link TemporalField} between <code>
    * TemporalField.range().min()</code> and <code>TemporalField.range().max()</code>. For example,
@@ -669,7 +967,7 @@ public final class RandomDateUtils {
    */
   public static MonthDay randomMonthDay(boolean includeLeapDay) {
     Month month = randomMonth();
-    int dayOfMonth = RandomUtils.nextInt(1, month.maxLength() + 1);
+    int dayOfMonth = randomInt(1, month.maxLength() + 1);
     MonthDay monthDay = MonthDay.of(month, dayOfMonth);
     if (!includeLeapDay && DateUtils.isLeapDay(monthDay)) {
       return randomMonthDay(false);
@@ -787,7 +1085,7 @@ public final class RandomDateUtils {
    * @return the random {@link YearMonth}
    */
   public static YearMonth randomYearMonth() {
-    return YearMonth.of(randomYear().getValue(), randomMonth());
+    return ofProlepticMonth(randomLong(MIN_PROLEPTIC_MONTH, MAX_YEAR * 12L));
   }
 
   /**
@@ -802,10 +1100,12 @@ public final class RandomDateUtils {
   public static YearMonth randomYearMonth(YearMonth startInclusive, YearMonth endExclusive) {
     checkArgument(startInclusive != null, "Start must be non-null");
     checkArgument(endExclusive != null, "End must be non-null");
-    LocalDate start = startInclusive.atDay(1);
-    LocalDate end = endExclusive.atDay(1);
-    LocalDate localDate = randomLocalDate(start, end);
-    return YearMonth.of(localDate.getYear(), localDate.getMonth());
+    long startMonth = prolepticMonth(startInclusive);
+    long endMonth = prolepticMonth(endExclusive);
+    checkArgument(startMonth <= endMonth, "End must be on or after start");
+    checkArgument(startMonth >= MIN_PROLEPTIC_MONTH, "Start must be on or after %s", MIN_INSTANT);
+    checkArgument(endMonth <= MAX_PROLEPTIC_MONTH, "End must be on or before %s", MAX_INSTANT);
+    return ofProlepticMonth(randomLong(startMonth, endMonth));
   }
 
   /**
@@ -827,9 +1127,10 @@ public final class RandomDateUtils {
    */
   public static YearMonth randomYearMonthAfter(YearMonth after) {
     checkArgument(after != null, "After must be non-null");
-    LocalDate start = after.plus(1, MONTHS).atDay(1);
-    LocalDate localDate = randomLocalDateAfter(start);
-    return YearMonth.of(localDate.getYear(), localDate.getMonth());
+    long startMonth = prolepticMonth(after) + 1;
+    checkArgument(startMonth <= MAX_PROLEPTIC_MONTH, "Cannot produce date after %s", MAX_INSTANT);
+    checkArgument(startMonth >= MIN_PROLEPTIC_MONTH, "Start must be on or after %s", MIN_INSTANT);
+    return ofProlepticMonth(randomLong(startMonth, MAX_PROLEPTIC_MONTH + 1));
   }
 
   /**
@@ -851,9 +1152,10 @@ public final class RandomDateUtils {
    */
   public static YearMonth randomYearMonthBefore(YearMonth before) {
     checkArgument(before != null, "Before must be non-null");
-    LocalDate start = before.atDay(1);
-    LocalDate localDate = randomLocalDateBefore(start);
-    return YearMonth.of(localDate.getYear(), localDate.getMonth());
+    long endMonth = prolepticMonth(before);
+    checkArgument(endMonth > MIN_PROLEPTIC_MONTH, "Cannot produce date before %s", MIN_INSTANT);
+    checkArgument(endMonth <= MAX_PROLEPTIC_MONTH, "End must be on or before %s", MAX_INSTANT);
+    return ofProlepticMonth(randomLong(MIN_PROLEPTIC_MONTH, endMonth));
   }
 
   /**
@@ -863,7 +1165,7 @@ public final class RandomDateUtils {
    * @return the random {@link Year}
    */
   public static Year randomYear() {
-    return Year.of(RandomUtils.nextInt(MIN_YEAR, MAX_YEAR));
+    return Year.of(randomInt(MIN_YEAR, MAX_YEAR));
   }
 
   /**
@@ -898,7 +1200,7 @@ public final class RandomDateUtils {
     checkArgument(endExclusive > MIN_YEAR, "End must be after %s", MIN_YEAR);
     checkArgument(endExclusive <= MAX_YEAR, "End must be on or before %s", MAX_YEAR);
     checkArgument(startInclusive <= endExclusive, "End must be on or after start");
-    return Year.of(RandomUtils.nextInt(startInclusive, endExclusive));
+    return Year.of(randomInt(startInclusive, endExclusive));
   }
 
   /**
@@ -933,7 +1235,7 @@ public final class RandomDateUtils {
    */
   public static Year randomYearAfter(int after) {
     checkArgument(after < MAX_YEAR, "After must be before %s", MAX_YEAR);
-    return Year.of(RandomUtils.nextInt(after + 1, MAX_YEAR));
+    return Year.of(randomInt(after + 1, MAX_YEAR));
   }
 
   /**
@@ -967,7 +1269,7 @@ public final class RandomDateUtils {
    */
   public static Year randomYearBefore(int before) {
     checkArgument(before > MIN_YEAR, "Before must be after %s", MIN_YEAR);
-    return Year.of(RandomUtils.nextInt(MIN_YEAR, before));
+    return Year.of(randomInt(MIN_YEAR, before));
   }
 
   /**
@@ -1022,7 +1324,7 @@ public final class RandomDateUtils {
    */
   public static ZoneOffset randomZoneOffset() {
     int totalSeconds =
-        MAX_ZONE_OFFSET_SECONDS - RandomUtils.nextInt(0, MAX_ZONE_OFFSET_SECONDS * 2 + 1);
+        MAX_ZONE_OFFSET_SECONDS - randomInt(0, MAX_ZONE_OFFSET_SECONDS * 2 + 1);
     return ZoneOffset.ofTotalSeconds(totalSeconds);
   }
 
@@ -1079,4 +1381,77 @@ public final class RandomDateUtils {
   public static Duration randomNegativeDuration() {
     return Duration.ofNanos(randomNegativeLong());
   }
+
+  private static void checkInstantRange(Instant startInclusive, Instant endExclusive) {
+    checkArgument(startInclusive != null, "Start must be non-null");
+    checkArgument(endExclusive != null, "End must be non-null");
+    checkArgument(!startInclusive.isAfter(endExclusive), "End must be on or after start");
+    checkArgument(
+        startInclusive.equals(MIN_INSTANT) || startInclusive.isAfter(MIN_INSTANT),
+        "Start must be on or after %s",
+        MIN_INSTANT);
+    checkArgument(
+        endExclusive.equals(MAX_INSTANT) || endExclusive.isBefore(MAX_INSTANT),
+        "End must be on or before %s",
+        MAX_INSTANT);
+  }
+
+  private static long ticksPerSecond(ChronoUnit precision) {
+    switch (precision) {
+      case NANOS:
+        return NANOS_PER_SECOND;
+      case MICROS:
+        return 1_000_000;
+      case MILLIS:
+        return 1_000;
+      case SECONDS:
+        return 1;
+      default:
+        throw new IllegalArgumentException(
+            "Precision must be one of NANOS, MICROS, MILLIS or SECONDS");
+    }
+  }
+
+  /** Checks a range of epoch days the same way as the corresponding range of instants. */
+  private static void checkEpochDayRange(long startInclusive, long endExclusive) {
+    checkArgument(startInclusive <= endExclusive, "End must be on or after start");
+    checkArgument(startInclusive >= MIN_EPOCH_DAY, "Start must be on or after %s", MIN_INSTANT);
+    checkArgument(endExclusive <= MAX_EPOCH_DAY, "End must be on or before %s", MAX_INSTANT);
+  }
+
+  /** Returns the number of months between year zero and the given {@link YearMonth}. */
+  private static long prolepticMonth(YearMonth yearMonth) {
+    return yearMonth.getYear() * 12L + yearMonth.getMonthValue() - 1;
+  }
+
+  private static YearMonth ofProlepticMonth(long prolepticMonth) {
+    int year = (int) Math.floorDiv(prolepticMonth, 12);
+    int month = Math.floorMod((int) (prolepticMonth % 12), 12) + 1;
+    return YearMonth.of(year, month);
+  }
+
+  private static Instant[] randomInstants(
+      int size, Instant startInclusive, Instant endExclusive, boolean parallel) {
+    checkArgument(size >= 0, "Size must be greater than or equal to zero");
+    return instantRange(startInclusive, endExclusive).fill(new Instant[size], parallel);
+  }
+
+  private static LocalDate[] randomLocalDates(
+      int size, LocalDate startInclusive, LocalDate endExclusive, boolean parallel) {
+    checkArgument(size >= 0, "Size must be greater than or equal to zero");
+    return localDateRange(startInclusive, endExclusive).fill(new LocalDate[size], parallel);
+  }
+
+  private static LocalDateTime[] randomLocalDateTimes(
+      int size, LocalDateTime startInclusive, LocalDateTime endExclusive, boolean parallel) {
+    checkArgument(size >= 0, "Size must be greater than or equal to zero");
+    return localDateTimeRange(startInclusive, endExclusive)
+        .fill(new LocalDateTime[size], parallel);
+  }
+
+  private static LocalDateTime ofEpochMilli(long epochMilli) {
+    long epochSecond = Math.floorDiv(epochMilli, 1000);
+    int nanos = Math.floorMod((int) (epochMilli % 1000), 1000) * 1_000_000;
+    return LocalDateTime.ofEpochSecond(epochSecond, nanos, UTC_OFFSET);
+  }
 }
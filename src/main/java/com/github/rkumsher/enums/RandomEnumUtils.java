@@ -4,6 +4,7 @@ import java.util.Collection;
 import java.util.EnumSet;
 
 import com.github.rkumsher.collection.IterableUtils;
+import com.github.rkumsher.collection.Sampler;
 
 /** Utility library to retrieve random elements from enum instances. */
 public final class RandomEnumUtils {
@@ -51,4 +52,16 @@ public final class RandomEnumUtils {
     EnumSet<T> enums = EnumSet.allOf(enumClass);
     return IterableUtils.randomFrom(enums, excludes);
   }
+
+  /**
+   * Returns a {@link Sampler} of the elements of the given enum class.
+   *
+   * @param enumClass enum class to sample random elements from
+   * @param <T> the type of the given enum class
+   * @return {@link Sampler} of the elements of the given enum class
+   * @throws IllegalArgumentException if the given enumClass has no values
+   */
+  public static <T extends Enum<T>> Sampler<T> sampler(Class<T> enumClass) {
+    return IterableUtils.sampler(EnumSet.allOf(enumClass));
+  }
 }
@@ -0,0 +1,293 @@
+package com.github.rkumsher.number;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+import com.github.rkumsher.random.RandomSource;
+import com.github.rkumsher.random.RandomSources;
+
+/**
+ * Base of the sized spliterators behind the random number streams of {@link RandomNumberUtils}.
+ *
+ * <p>The indexes of a stream are split into fixed-size blocks and every block draws from its own
+ * stream keyed by the index of the block (see {@link RandomSources#splittableRandom(long, long)}).
+ * Splits always end on block boundaries, and a split starting within a block continues the
+ * generator of that block, so the values of a stream are the same whether it's consumed
+ * sequentially or in parallel.
+ */
+abstract class RandomNumberSpliterator<T, S extends RandomNumberSpliterator<T, S>>
+    implements Spliterator<T> {
+
+  /** Number of values drawn from the stream of every block. */
+  static final long BLOCK_SIZE = 1 << 10;
+
+  private static final int CHARACTERISTICS =
+      SIZED | SUBSIZED | ORDERED | NONNULL | IMMUTABLE;
+
+  private final long seed;
+  private final long fence;
+  private long index;
+  private RandomSource blockSource;
+
+  /**
+   * Creates a spliterator for the given indexes. If the index is within a block, the given block
+   * source must be the generator of that block, advanced up to the index.
+   */
+  RandomNumberSpliterator(long seed, long index, long fence, RandomSource blockSource) {
+    this.seed = seed;
+    this.index = index;
+    this.fence = fence;
+    this.blockSource = blockSource;
+  }
+
+  /**
+   * Returns a spliterator of the same bounds as this one for the given indexes, continuing the
+   * given block source if the index is within a block.
+   */
+  abstract S split(long seed, long index, long fence, RandomSource blockSource);
+
+  /** Returns the source to draw the value at the next index from, advancing the index. */
+  final RandomSource nextSource() {
+    if (blockSource == null || index % BLOCK_SIZE == 0) {
+      blockSource = RandomSources.splittableRandom(seed, index / BLOCK_SIZE);
+    }
+    index++;
+    return blockSource;
+  }
+
+  final boolean hasNext() {
+    return index < fence;
+  }
+
+  @Override
+  public final S trySplit() {
+    long middle = ((index + fence) >>> 1) / BLOCK_SIZE * BLOCK_SIZE;
+    if (middle <= index) {
+      return null;
+    }
+    S prefix = split(seed, index, middle, index % BLOCK_SIZE != 0 ? blockSource : null);
+    index = middle;
+    blockSource = null;
+    return prefix;
+  }
+
+  @Override
+  public final long estimateSize() {
+    return fence - index;
+  }
+
+  @Override
+  public final int characteristics() {
+    return CHARACTERISTICS;
+  }
+
+  /** Spliterator of random ints. */
+  static final class Ints extends RandomNumberSpliterator<Integer, Ints>
+      implements Spliterator.OfInt {
+
+    private final int startInclusive;
+    private final int endExclusive;
+
+    Ints(long seed, long index, long fence, int startInclusive, int endExclusive) {
+      this(seed, index, fence, null, startInclusive, endExclusive);
+    }
+
+    private Ints(
+        long seed,
+        long index,
+        long fence,
+        RandomSource blockSource,
+        int startInclusive,
+        int endExclusive) {
+      super(seed, index, fence, blockSource);
+      this.startInclusive = startInclusive;
+      this.endExclusive = endExclusive;
+    }
+
+    @Override
+    Ints split(long seed, long index, long fence, RandomSource blockSource) {
+      return new Ints(seed, index, fence, blockSource, startInclusive, endExclusive);
+    }
+
+    @Override
+    public boolean tryAdvance(IntConsumer action) {
+      if (!hasNext()) {
+        return false;
+      }
+      action.accept(next(nextSource()));
+      return true;
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+      while (hasNext()) {
+        action.accept(next(nextSource()));
+      }
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Integer> action) {
+      if (action instanceof IntConsumer) {
+        return tryAdvance((IntConsumer) action);
+      }
+      return tryAdvance((IntConsumer) action::accept);
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super Integer> action) {
+      if (action instanceof IntConsumer) {
+        forEachRemaining((IntConsumer) action);
+      } else {
+        forEachRemaining((IntConsumer) action::accept);
+      }
+    }
+
+    private int next(RandomSource source) {
+      if (startInclusive == endExclusive) {
+        return startInclusive;
+      }
+      return source.nextInt(startInclusive, endExclusive);
+    }
+  }
+
+  /** Spliterator of random longs. */
+  static final class Longs extends RandomNumberSpliterator<Long, Longs>
+      implements Spliterator.OfLong {
+
+    private final long startInclusive;
+    private final long endExclusive;
+
+    Longs(long seed, long index, long fence, long startInclusive, long endExclusive) {
+      this(seed, index, fence, null, startInclusive, endExclusive);
+    }
+
+    private Longs(
+        long seed,
+        long index,
+        long fence,
+        RandomSource blockSource,
+        long startInclusive,
+        long endExclusive) {
+      super(seed, index, fence, blockSource);
+      this.startInclusive = startInclusive;
+      this.endExclusive = endExclusive;
+    }
+
+    @Override
+    Longs split(long seed, long index, long fence, RandomSource blockSource) {
+      return new Longs(seed, index, fence, blockSource, startInclusive, endExclusive);
+    }
+
+    @Override
+    public boolean tryAdvance(LongConsumer action) {
+      if (!hasNext()) {
+        return false;
+      }
+      action.accept(next(nextSource()));
+      return true;
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+      while (hasNext()) {
+        action.accept(next(nextSource()));
+      }
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Long> action) {
+      if (action instanceof LongConsumer) {
+        return tryAdvance((LongConsumer) action);
+      }
+      return tryAdvance((LongConsumer) action::accept);
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super Long> action) {
+      if (action instanceof LongConsumer) {
+        forEachRemaining((LongConsumer) action);
+      } else {
+        forEachRemaining((LongConsumer) action::accept);
+      }
+    }
+
+    private long next(RandomSource source) {
+      if (startInclusive == endExclusive) {
+        return startInclusive;
+      }
+      return source.nextLong(startInclusive, endExclusive);
+    }
+  }
+
+  /** Spliterator of random doubles. */
+  static final class Doubles extends RandomNumberSpliterator<Double, Doubles>
+      implements Spliterator.OfDouble {
+
+    private final double startInclusive;
+    private final double endExclusive;
+
+    Doubles(long seed, long index, long fence, double startInclusive, double endExclusive) {
+      this(seed, index, fence, null, startInclusive, endExclusive);
+    }
+
+    private Doubles(
+        long seed,
+        long index,
+        long fence,
+        RandomSource blockSource,
+        double startInclusive,
+        double endExclusive) {
+      super(seed, index, fence, blockSource);
+      this.startInclusive = startInclusive;
+      this.endExclusive = endExclusive;
+    }
+
+    @Override
+    Doubles split(long seed, long index, long fence, RandomSource blockSource) {
+      return new Doubles(seed, index, fence, blockSource, startInclusive, endExclusive);
+    }
+
+    @Override
+    public boolean tryAdvance(DoubleConsumer action) {
+      if (!hasNext()) {
+        return false;
+      }
+      action.accept(next(nextSource()));
+      return true;
+    }
+
+    @Override
+    public void forEachRemaining(DoubleConsumer action) {
+      while (hasNext()) {
+        action.accept(next(nextSource()));
+      }
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Double> action) {
+      if (action instanceof DoubleConsumer) {
+        return tryAdvance((DoubleConsumer) action);
+      }
+      return tryAdvance((DoubleConsumer) action::accept);
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super Double> action) {
+      if (action instanceof DoubleConsumer) {
+        forEachRemaining((DoubleConsumer) action);
+      } else {
+        forEachRemaining((DoubleConsumer) action::accept);
+      }
+    }
+
+    private double next(RandomSource source) {
+      if (startInclusive == endExclusive) {
+        return startInclusive;
+      }
+      return source.nextDouble(startInclusive, endExclusive);
+    }
+  }
+}
@@ -2,16 +2,27 @@ package com.github.rkumsher.number;
 
 import static com.google.common.base.Preconditions.*;
 
-import java.util.Random;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+import com.github.rkumsher.random.BoundedDraws;
+import com.github.rkumsher.random.ParallelRandom;
+import com.github.rkumsher.random.RandomSource;
+import com.github.rkumsher.random.RandomSources;
 
 /**
  * Utility library to return random numbers. Unlike Apaches RandomUtils, this supports negative
  * numbers.
+ *
+ * <p>All random values are drawn from {@link RandomSources#current()}.
  */
 public class RandomNumberUtils {
 
-  private static final Random RANDOM = new Random();
-
   private RandomNumberUtils() {}
 
   /**
@@ -54,7 +65,7 @@ public class RandomNumberUtils {
     if (startInclusive == endExclusive) {
       return startInclusive;
     }
-    return RANDOM.ints(1, startInclusive, endExclusive).sum();
+    return RandomSources.current().nextInt(startInclusive, endExclusive);
   }
 
   /**
@@ -125,7 +136,7 @@ public class RandomNumberUtils {
     if (startInclusive == endExclusive) {
       return startInclusive;
     }
-    return RANDOM.longs(1, startInclusive, endExclusive).sum();
+    return RandomSources.current().nextLong(startInclusive, endExclusive);
   }
 
   /**
@@ -196,7 +207,7 @@ public class RandomNumberUtils {
     if (startInclusive == endExclusive) {
       return startInclusive;
     }
-    return RANDOM.doubles(1, startInclusive, endExclusive).sum();
+    return RandomSources.current().nextDouble(startInclusive, endExclusive);
   }
 
   /**
@@ -226,4 +237,264 @@ public class RandomNumberUtils {
         maxExclusive > -Double.MAX_VALUE, "Cannot produce double less than %s", -Double.MAX_VALUE);
     return randomDouble(-Double.MAX_VALUE, maxExclusive);
   }
+
+  /**
+   * Fills the given array with random ints within the specified range. The range is only
+   * validated once for the whole array, rather than once per element.
+   *
+   * @param array the array to fill
+   * @param startInclusive the earliest int that can be returned
+   * @param endExclusive the upper bound (not included)
+   * @throws IllegalArgumentException if endExclusive is less than startInclusive
+   */
+  public static void fill(int[] array, int startInclusive, int endExclusive) {
+    checkArgument(startInclusive <= endExclusive, "End must be greater than or equal to start");
+    BoundedDraws.fill(
+        RandomSources.current(), array, 0, array.length, startInclusive, endExclusive);
+  }
+
+  /**
+   * Fills the given array with random ints within the specified range, generating blocks of the
+   * array in parallel on the common fork/join pool (see {@link ParallelRandom}).
+   *
+   * @param array the array to fill
+   * @param startInclusive the earliest int that can be returned
+   * @param endExclusive the upper bound (not included)
+   * @throws IllegalArgumentException if endExclusive is less than startInclusive
+   */
+  public static void parallelFill(int[] array, int startInclusive, int endExclusive) {
+    checkArgument(startInclusive <= endExclusive, "End must be greater than or equal to start");
+    ParallelRandom.forEachBlock(
+        RandomSources.current(),
+        array.length,
+        (source, from, to) ->
+            BoundedDraws.fill(source, array, from, to, startInclusive, endExclusive));
+  }
+
+  /**
+   * Fills the remaining elements of the given buffer, from its position to its limit, with random
+   * ints within the specified range. The position of the buffer is left unchanged.
+   *
+   * @param buffer the buffer to fill
+   * @param startInclusive the earliest int that can be returned
+   * @param endExclusive the upper bound (not included)
+   * @throws IllegalArgumentException if endExclusive is less than startInclusive
+   */
+  public static void fill(IntBuffer buffer, int startInclusive, int endExclusive) {
+    checkArgument(startInclusive <= endExclusive, "End must be greater than or equal to start");
+    RandomSource source = RandomSources.current();
+    if (buffer.hasArray()) {
+      int offset = buffer.arrayOffset();
+      int fromIndex = offset + buffer.position();
+      int toIndex = offset + buffer.limit();
+      BoundedDraws.fill(
+          source, buffer.array(), fromIndex, toIndex, startInclusive, endExclusive);
+    } else if (startInclusive == endExclusive) {
+      for (int i = buffer.position(); i < buffer.limit(); i++) {
+        buffer.put(i, startInclusive);
+      }
+    } else {
+      for (int i = buffer.position(); i < buffer.limit(); i++) {
+        buffer.put(i, source.nextInt(startInclusive, endExclusive));
+      }
+    }
+  }
+
+  /**
+   * Fills the remaining bytes of the given buffer, from its position to its limit, with random
+   * ints within the specified range in the byte order of the buffer. Works with both heap and
+   * direct buffers. The position of the buffer is left unchanged.
+   *
+   * @param buffer the buffer to fill, its number of remaining bytes must be a multiple of {@link
+   *     Integer#BYTES}
+   * @param startInclusive the earliest int that can be returned
+   * @param endExclusive the upper bound (not included)
+   * @throws IllegalArgumentException if endExclusive is less than startInclusive or if the number
+   *     of remaining bytes is not a multiple of {@link Integer#BYTES}
+   */
+  public static void fillInts(ByteBuffer buffer, int startInclusive, int endExclusive) {
+    checkArgument(
+        buffer.remaining() % Integer.BYTES == 0,
+        "Remaining bytes must be a multiple of %s",
+        Integer.BYTES);
+    fill(buffer.asIntBuffer(), startInclusive, endExclusive);
+  }
+
+  /**
+   * Fills the given array with random longs within the specified range. The range is only
+   * validated once for the whole array, rather than once per element.
+   *
+   * @param array the array to fill
+   * @param startInclusive the earliest long that can be returned
+   * @param endExclusive the upper bound (not included)
+   * @throws IllegalArgumentException if endExclusive is less than startInclusive
+   */
+  public static void fill(long[] array, long startInclusive, long endExclusive) {
+    checkArgument(startInclusive <= endExclusive, "End must be greater than or equal to start");
+    BoundedDraws.fill(
+        RandomSources.current(), array, 0, array.length, startInclusive, endExclusive);
+  }
+
+  /**
+   * Fills the given array with random longs within the specified range, generating blocks of the
+   * array in parallel on the common fork/join pool (see {@link ParallelRandom}).
+   *
+   * @param array the array to fill
+   * @param startInclusive the earliest long that can be returned
+   * @param endExclusive the upper bound (not included)
+   * @throws IllegalArgumentException if endExclusive is less than startInclusive
+   */
+  public static void parallelFill(long[] array, long startInclusive, long endExclusive) {
+    checkArgument(startInclusive <= endExclusive, "End must be greater than or equal to start");
+    ParallelRandom.forEachBlock(
+        RandomSources.current(),
+        array.length,
+        (source, from, to) ->
+            BoundedDraws.fill(source, array, from, to, startInclusive, endExclusive));
+  }
+
+  /**
+   * Fills the remaining elements of the given buffer, from its position to its limit, with random
+   * longs within the specified range. The position of the buffer is left unchanged.
+   *
+   * @param buffer the buffer to fill
+   * @param startInclusive the earliest long that can be returned
+   * @param endExclusive the upper bound (not included)
+   * @throws IllegalArgumentException if endExclusive is less than startInclusive
+   */
+  public static void fill(LongBuffer buffer, long startInclusive, long endExclusive) {
+    checkArgument(startInclusive <= endExclusive, "End must be greater than or equal to start");
+    RandomSource source = RandomSources.current();
+    if (buffer.hasArray()) {
+      int offset = buffer.arrayOffset();
+      int fromIndex = offset + buffer.position();
+      int toIndex = offset + buffer.limit();
+      BoundedDraws.fill(
+          source, buffer.array(), fromIndex, toIndex, startInclusive, endExclusive);
+    } else if (startInclusive == endExclusive) {
+      for (int i = buffer.position(); i < buffer.limit(); i++) {
+        buffer.put(i, startInclusive);
+      }
+    } else {
+      for (int i = buffer.position(); i < buffer.limit(); i++) {
+        buffer.put(i, source.nextLong(startInclusive, endExclusive));
+      }
+    }
+  }
+
+  /**
+   * Fills the remaining bytes of the given buffer, from its position to its limit, with random
+   * longs within the specified range in the byte order of the buffer. Works with both heap and
+   * direct buffers. The position of the buffer is left unchanged.
+   *
+   * @param buffer the buffer to fill, its number of remaining bytes must be a multiple of {@link
+   *     Long#BYTES}
+   * @param startInclusive the earliest long that can be returned
+   * @param endExclusive the upper bound (not included)
+   * @throws IllegalArgumentException if endExclusive is less than startInclusive or if the number
+   *     of remaining bytes is not a multiple of {@link Long#BYTES}
+   */
+  public static void fillLongs(ByteBuffer buffer, long startInclusive, long endExclusive) {
+    checkArgument(
+        buffer.remaining() % Long.BYTES == 0,
+        "Remaining bytes must be a multiple of %s",
+        Long.BYTES);
+    fill(buffer.asLongBuffer(), startInclusive, endExclusive);
+  }
+
+  /**
+   * Fills the given array with random doubles within the specified range. The range is only
+   * validated once for the whole array, rather than once per element.
+   *
+   * @param array the array to fill
+   * @param startInclusive the earliest double that can be returned
+   * @param endExclusive the upper bound (not included)
+   * @throws IllegalArgumentException if endExclusive is less than startInclusive
+   */
+  public static void fill(double[] array, double startInclusive, double endExclusive) {
+    checkArgument(startInclusive <= endExclusive, "End must be greater than or equal to start");
+    BoundedDraws.fill(
+        RandomSources.current(), array, 0, array.length, startInclusive, endExclusive);
+  }
+
+  /**
+   * Fills the given array with random doubles within the specified range, generating blocks of the
+   * array in parallel on the common fork/join pool (see {@link ParallelRandom}).
+   *
+   * @param array the array to fill
+   * @param startInclusive the earliest double that can be returned
+   * @param endExclusive the upper bound (not included)
+   * @throws IllegalArgumentException if endExclusive is less than startInclusive
+   */
+  public static void parallelFill(double[] array, double startInclusive, double endExclusive) {
+    checkArgument(startInclusive <= endExclusive, "End must be greater than or equal to start");
+    ParallelRandom.forEachBlock(
+        RandomSources.current(),
+        array.length,
+        (source, from, to) ->
+            BoundedDraws.fill(source, array, from, to, startInclusive, endExclusive));
+  }
+
+  /**
+   * Returns a sized stream of random ints within the specified range. The stream splits into
+   * blocks that each draw from their own independent generator, so it parallelizes without
+   * contention and yields the same values whether it's consumed sequentially or in parallel.
+   *
+   * @param size the number of ints to generate
+   * @param startInclusive the earliest int that can be returned
+   * @param endExclusive the upper bound (not included)
+   * @return the stream of random ints
+   * @throws IllegalArgumentException if size is negative or endExclusive is less than
+   *     startInclusive
+   */
+  public static IntStream randomInts(long size, int startInclusive, int endExclusive) {
+    checkArgument(size >= 0, "Size must be greater than or equal to zero");
+    checkArgument(startInclusive <= endExclusive, "End must be greater than or equal to start");
+    return StreamSupport.intStream(
+        new RandomNumberSpliterator.Ints(
+            RandomSources.current().nextLong(), 0, size, startInclusive, endExclusive),
+        false);
+  }
+
+  /**
+   * Returns a sized stream of random longs within the specified range. The stream splits into
+   * blocks that each draw from their own independent generator, so it parallelizes without
+   * contention and yields the same values whether it's consumed sequentially or in parallel.
+   *
+   * @param size the number of longs to generate
+   * @param startInclusive the earliest long that can be returned
+   * @param endExclusive the upper bound (not included)
+   * @return the stream of random longs
+   * @throws IllegalArgumentException if size is negative or endExclusive is less than
+   *     startInclusive
+   */
+  public static LongStream randomLongs(long size, long startInclusive, long endExclusive) {
+    checkArgument(size >= 0, "Size must be greater than or equal to zero");
+    checkArgument(startInclusive <= endExclusive, "End must be greater than or equal to start");
+    return StreamSupport.longStream(
+        new RandomNumberSpliterator.Longs(
+            RandomSources.current().nextLong(), 0, size, startInclusive, endExclusive),
+        false);
+  }
+
+  /**
+   * Returns a sized stream of random doubles within the specified range. The stream splits into
+   * blocks that each draw from their own independent generator, so it parallelizes without
+   * contention and yields the same values whether it's consumed sequentially or in parallel.
+   *
+   * @param size the number of doubles to generate
+   * @param startInclusive the earliest double that can be returned
+   * @param endExclusive the upper bound (not included)
+   * @return the stream of random doubles
+   * @throws IllegalArgumentException if size is negative or endExclusive is less than
+   *     startInclusive
+   */
+  public static DoubleStream randomDoubles(long size, double startInclusive, double endExclusive) {
+    checkArgument(size >= 0, "Size must be greater than or equal to zero");
+    checkArgument(startInclusive <= endExclusive, "End must be greater than or equal to start");
+    return StreamSupport.doubleStream(
+        new RandomNumberSpliterator.Doubles(
+            RandomSources.current().nextLong(), 0, size, startInclusive, endExclusive),
+        false);
+  }
 }
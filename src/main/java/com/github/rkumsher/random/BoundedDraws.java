@@ -0,0 +1,177 @@
+package com.github.rkumsher.random;
+
+import static com.google.common.base.Preconditions.*;
+
+import java.util.Arrays;
+
+/**
+ * Unbiased bounded draws from a {@link RandomSource}, using Daniel Lemire's nearly divisionless
+ * multiply-shift method. A division is only needed in the rare case a draw falls into the biased
+ * zone, and no objects are allocated.
+ *
+ * <p>Ranges are handled as unsigned values, so every range that can be expressed with a start and
+ * an exclusive end, up to <code>Integer.MIN_VALUE..Integer.MAX_VALUE</code> and <code>
+ * Long.MIN_VALUE..Long.MAX_VALUE</code>, is drawn from without overflow.
+ *
+ * <p>The bulk fill methods validate their range once and resolve a thread-safe per-thread source
+ * to the generator of the calling thread once, rather than paying for both on every element.
+ */
+public final class BoundedDraws {
+
+  private static final long INT_MASK = 0xffffffffL;
+
+  private BoundedDraws() {}
+
+  /** Returns a random int between startInclusive and endExclusive, which must be ordered. */
+  static int nextInt(RandomSource source, int startInclusive, int endExclusive) {
+    long range = (endExclusive - startInclusive) & INT_MASK;
+    long product = (source.nextInt() & INT_MASK) * range;
+    long low = product & INT_MASK;
+    if (low < range) {
+      long threshold = ((-range) & INT_MASK) % range;
+      while (low < threshold) {
+        product = (source.nextInt() & INT_MASK) * range;
+        low = product & INT_MASK;
+      }
+    }
+    return startInclusive + (int) (product >>> 32);
+  }
+
+  /** Returns a random long between startInclusive and endExclusive, which must be ordered. */
+  static long nextLong(RandomSource source, long startInclusive, long endExclusive) {
+    long range = endExclusive - startInclusive;
+    long bits = source.nextLong();
+    long low = bits * range;
+    if (Long.compareUnsigned(low, range) < 0) {
+      long threshold = Long.remainderUnsigned(-range, range);
+      while (Long.compareUnsigned(low, threshold) < 0) {
+        bits = source.nextLong();
+        low = bits * range;
+      }
+    }
+    return startInclusive + unsignedMultiplyHigh(bits, range);
+  }
+
+  /**
+   * Returns a random double between startInclusive and endExclusive, which must be ordered. Ranges
+   * wider than {@link Double#MAX_VALUE} are interpolated between both bounds so they never
+   * overflow to infinity.
+   */
+  static double nextDouble(RandomSource source, double startInclusive, double endExclusive) {
+    double fraction = source.nextDouble();
+    double range = endExclusive - startInclusive;
+    double value =
+        range < Double.POSITIVE_INFINITY
+            ? startInclusive + fraction * range
+            : fraction * endExclusive + (1 - fraction) * startInclusive;
+    return value < endExclusive ? value : Math.nextDown(endExclusive);
+  }
+
+  /**
+   * Fills the elements of the given array between fromIndex and toIndex with random ints within
+   * the specified range, or with startInclusive if the range is empty.
+   *
+   * @param source the {@link RandomSource} to draw from
+   * @param array the array to fill
+   * @param fromIndex the index of the first element to fill
+   * @param toIndex the index after the last element to fill
+   * @param startInclusive the earliest int that can be returned
+   * @param endExclusive the upper bound (not included)
+   * @throws IllegalArgumentException if endExclusive is less than startInclusive
+   */
+  public static void fill(
+      RandomSource source,
+      int[] array,
+      int fromIndex,
+      int toIndex,
+      int startInclusive,
+      int endExclusive) {
+    checkArgument(startInclusive <= endExclusive, "End must be greater than or equal to start");
+    if (startInclusive == endExclusive) {
+      Arrays.fill(array, fromIndex, toIndex, startInclusive);
+      return;
+    }
+    RandomSource local = local(source);
+    for (int i = fromIndex; i < toIndex; i++) {
+      array[i] = nextInt(local, startInclusive, endExclusive);
+    }
+  }
+
+  /**
+   * Fills the elements of the given array between fromIndex and toIndex with random longs within
+   * the specified range, or with startInclusive if the range is empty.
+   *
+   * @param source the {@link RandomSource} to draw from
+   * @param array the array to fill
+   * @param fromIndex the index of the first element to fill
+   * @param toIndex the index after the last element to fill
+   * @param startInclusive the earliest long that can be returned
+   * @param endExclusive the upper bound (not included)
+   * @throws IllegalArgumentException if endExclusive is less than startInclusive
+   */
+  public static void fill(
+      RandomSource source,
+      long[] array,
+      int fromIndex,
+      int toIndex,
+      long startInclusive,
+      long endExclusive) {
+    checkArgument(startInclusive <= endExclusive, "End must be greater than or equal to start");
+    if (startInclusive == endExclusive) {
+      Arrays.fill(array, fromIndex, toIndex, startInclusive);
+      return;
+    }
+    RandomSource local = local(source);
+    for (int i = fromIndex; i < toIndex; i++) {
+      array[i] = nextLong(local, startInclusive, endExclusive);
+    }
+  }
+
+  /**
+   * Fills the elements of the given array between fromIndex and toIndex with random doubles within
+   * the specified range, or with startInclusive if the range is empty.
+   *
+   * @param source the {@link RandomSource} to draw from
+   * @param array the array to fill
+   * @param fromIndex the index of the first element to fill
+   * @param toIndex the index after the last element to fill
+   * @param startInclusive the earliest double that can be returned
+   * @param endExclusive the upper bound (not included)
+   * @throws IllegalArgumentException if endExclusive is less than startInclusive
+   */
+  public static void fill(
+      RandomSource source,
+      double[] array,
+      int fromIndex,
+      int toIndex,
+      double startInclusive,
+      double endExclusive) {
+    checkArgument(startInclusive <= endExclusive, "End must be greater than or equal to start");
+    if (startInclusive == endExclusive) {
+      Arrays.fill(array, fromIndex, toIndex, startInclusive);
+      return;
+    }
+    RandomSource local = local(source);
+    for (int i = fromIndex; i < toIndex; i++) {
+      array[i] = nextDouble(local, startInclusive, endExclusive);
+    }
+  }
+
+  /** Returns the source of the calling thread if the given source is a per-thread source. */
+  private static RandomSource local(RandomSource source) {
+    return source instanceof PerThreadRandomSource
+        ? ((PerThreadRandomSource) source).local()
+        : source;
+  }
+
+  /** Returns the high 64 bits of the unsigned 128 bit product of the given longs. */
+  static long unsignedMultiplyHigh(long x, long y) {
+    long x0 = x & INT_MASK;
+    long x1 = x >>> 32;
+    long y0 = y & INT_MASK;
+    long y1 = y >>> 32;
+    long t = x1 * y0 + ((x0 * y0) >>> 32);
+    long w1 = (t & INT_MASK) + x0 * y1;
+    return x1 * y1 + (t >>> 32) + (w1 >>> 32);
+  }
+}
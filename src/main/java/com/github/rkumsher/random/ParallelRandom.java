@@ -0,0 +1,105 @@
+package com.github.rkumsher.random;
+
+import static com.google.common.base.Preconditions.*;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Utility library to generate random values in parallel on the common {@link ForkJoinPool}.
+ *
+ * <p>The indexes to generate are split into fixed-size blocks and every block draws from its own
+ * stream, keyed by the index of the block (see {@link RandomSources#splittableRandom(long,
+ * long)}). Since neither the blocks nor their streams depend on the number of threads or on how
+ * the blocks are scheduled, generating with a seeded {@link RandomSource} is reproducible.
+ */
+public final class ParallelRandom {
+
+  /** Number of indexes generated by every block. */
+  public static final int BLOCK_SIZE = 1 << 14;
+
+  private ParallelRandom() {}
+
+  /**
+   * Generates the values of a range of indexes from the given {@link RandomSource}.
+   *
+   * <p>Note: Implementations are called concurrently, each with a {@link RandomSource} confined to
+   * the call.
+   */
+  @FunctionalInterface
+  public interface BlockGenerator {
+
+    /**
+     * Generates the values for the indexes between fromInclusive and toExclusive.
+     *
+     * @param source the {@link RandomSource} to draw from
+     * @param fromInclusive the first index to generate
+     * @param toExclusive the index after the last index to generate
+     */
+    void generate(RandomSource source, int fromInclusive, int toExclusive);
+  }
+
+  /**
+   * Generates the values of the indexes between zero and size in parallel, one block of {@link
+   * #BLOCK_SIZE} indexes at a time. The streams of the blocks are keyed off a single value drawn
+   * from the given {@link RandomSource} on the calling thread. While a block is generated its
+   * stream is also the {@link RandomSources#current() current source} of the thread generating it.
+   *
+   * @param source the {@link RandomSource} to key the streams of the blocks off
+   * @param size the number of indexes to generate
+   * @param generator the generator of a block of indexes
+   * @throws IllegalArgumentException if the size is negative
+   */
+  public static void forEachBlock(RandomSource source, int size, BlockGenerator generator) {
+    checkArgument(size >= 0, "Size must be greater than or equal to zero");
+    long seed = source.nextLong();
+    int blocks = (int) (((long) size + BLOCK_SIZE - 1) / BLOCK_SIZE);
+    BlockTask task = new BlockTask(seed, size, generator, 0, blocks);
+    if (blocks <= 1) {
+      task.compute();
+    } else {
+      ForkJoinPool.commonPool().invoke(task);
+    }
+  }
+
+  private static final class BlockTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long seed;
+    private final int size;
+    private final BlockGenerator generator;
+    private final int fromBlock;
+    private final int toBlock;
+
+    BlockTask(long seed, int size, BlockGenerator generator, int fromBlock, int toBlock) {
+      this.seed = seed;
+      this.size = size;
+      this.generator = generator;
+      this.fromBlock = fromBlock;
+      this.toBlock = toBlock;
+    }
+
+    @Override
+    protected void compute() {
+      if (toBlock - fromBlock > 1) {
+        int middle = (fromBlock + toBlock) >>> 1;
+        invokeAll(
+            new BlockTask(seed, size, generator, fromBlock, middle),
+            new BlockTask(seed, size, generator, middle, toBlock));
+        return;
+      }
+      for (int block = fromBlock; block < toBlock; block++) {
+        RandomSource blockSource = RandomSources.splittableRandom(seed, block);
+        int fromIndex = block * BLOCK_SIZE;
+        int toIndex = (int) Math.min(size, (long) fromIndex + BLOCK_SIZE);
+        RandomSources.callWith(
+            blockSource,
+            () -> {
+              generator.generate(blockSource, fromIndex, toIndex);
+              return null;
+            });
+      }
+    }
+  }
+}
@@ -0,0 +1,63 @@
+package com.github.rkumsher.random;
+
+import java.util.function.Supplier;
+
+/**
+ * {@link RandomSource} that lazily gives every thread its own, unshared, {@link RandomSource} so
+ * that no state is ever contended between threads.
+ */
+final class PerThreadRandomSource implements RandomSource {
+
+  private final String name;
+  private final ThreadLocal<RandomSource> sources;
+
+  PerThreadRandomSource(String name, Supplier<RandomSource> sourceFactory) {
+    this.name = name;
+    this.sources = ThreadLocal.withInitial(sourceFactory);
+  }
+
+  /** Returns the unshared source of the calling thread. */
+  RandomSource local() {
+    return sources.get();
+  }
+
+  @Override
+  public long nextLong() {
+    return sources.get().nextLong();
+  }
+
+  @Override
+  public int nextInt() {
+    return sources.get().nextInt();
+  }
+
+  @Override
+  public double nextDouble() {
+    return sources.get().nextDouble();
+  }
+
+  @Override
+  public boolean nextBoolean() {
+    return sources.get().nextBoolean();
+  }
+
+  @Override
+  public int nextInt(int startInclusive, int endExclusive) {
+    return sources.get().nextInt(startInclusive, endExclusive);
+  }
+
+  @Override
+  public long nextLong(long startInclusive, long endExclusive) {
+    return sources.get().nextLong(startInclusive, endExclusive);
+  }
+
+  @Override
+  public double nextDouble(double startInclusive, double endExclusive) {
+    return sources.get().nextDouble(startInclusive, endExclusive);
+  }
+
+  @Override
+  public String toString() {
+    return name;
+  }
+}
@@ -0,0 +1,114 @@
+package com.github.rkumsher.random;
+
+import static com.google.common.base.Preconditions.*;
+
+import java.util.SplittableRandom;
+
+/**
+ * Source of random values used by all the random utility classes in this library.
+ *
+ * <p>Implementations only need to provide {@link #nextLong()}, every other method is derived from
+ * it. Implementations may override the derived methods if their backend provides a faster
+ * equivalent.
+ *
+ * <p>Sources form a split tree: {@link #split()} hands out an independent child source whose values
+ * only depend on the state of its parent. Giving every fork/join subtask its own child, split off
+ * in a fixed order, makes a parallel computation reproducible regardless of how its subtasks are
+ * scheduled.
+ *
+ * @see RandomSources
+ */
+public interface RandomSource {
+
+  /**
+   * Returns a random long, all 2<sup>64</sup> possible values are produced with (approximately)
+   * equal probability.
+   *
+   * @return the random long
+   */
+  long nextLong();
+
+  /**
+   * Returns a random int, all 2<sup>32</sup> possible values are produced with (approximately)
+   * equal probability.
+   *
+   * @return the random int
+   */
+  default int nextInt() {
+    return (int) (nextLong() >>> 32);
+  }
+
+  /**
+   * Returns a random double between zero (inclusive) and one (exclusive).
+   *
+   * @return the random double
+   */
+  default double nextDouble() {
+    return (nextLong() >>> 11) * 0x1.0p-53;
+  }
+
+  /**
+   * Returns a random boolean.
+   *
+   * @return the random boolean
+   */
+  default boolean nextBoolean() {
+    return nextLong() < 0;
+  }
+
+  /**
+   * Returns a random int within the specified range. Every range is supported, including <code>
+   * Integer.MIN_VALUE..Integer.MAX_VALUE</code>, and no objects are allocated.
+   *
+   * @param startInclusive the earliest int that can be returned
+   * @param endExclusive the upper bound (not included)
+   * @return the random int
+   * @throws IllegalArgumentException if endExclusive is less than or equal to startInclusive
+   */
+  default int nextInt(int startInclusive, int endExclusive) {
+    checkArgument(startInclusive < endExclusive, "End must be greater than start");
+    return BoundedDraws.nextInt(this, startInclusive, endExclusive);
+  }
+
+  /**
+   * Returns a random long within the specified range. Every range is supported, including <code>
+   * Long.MIN_VALUE..Long.MAX_VALUE</code>, and no objects are allocated.
+   *
+   * @param startInclusive the earliest long that can be returned
+   * @param endExclusive the upper bound (not included)
+   * @return the random long
+   * @throws IllegalArgumentException if endExclusive is less than or equal to startInclusive
+   */
+  default long nextLong(long startInclusive, long endExclusive) {
+    checkArgument(startInclusive < endExclusive, "End must be greater than start");
+    return BoundedDraws.nextLong(this, startInclusive, endExclusive);
+  }
+
+  /**
+   * Returns a random double within the specified range. Every finite range is supported, including
+   * <code>-Double.MAX_VALUE..Double.MAX_VALUE</code>, and no objects are allocated.
+   *
+   * @param startInclusive the earliest double that can be returned
+   * @param endExclusive the upper bound (not included)
+   * @return the random double
+   * @throws IllegalArgumentException if endExclusive is less than or equal to startInclusive
+   */
+  default double nextDouble(double startInclusive, double endExclusive) {
+    checkArgument(startInclusive < endExclusive, "End must be greater than start");
+    return BoundedDraws.nextDouble(this, startInclusive, endExclusive);
+  }
+
+  /**
+   * Returns a new {@link RandomSource} that shares no mutable state with this one, advancing this
+   * source in the process. The values of the returned source are determined by the state of this
+   * source, so splitting a seeded source is reproducible.
+   *
+   * <p>Note: The returned {@link RandomSource} is not thread-safe and is meant to be confined to a
+   * single task.
+   *
+   * @return the new {@link RandomSource}
+   */
+  default RandomSource split() {
+    return new SplittableRandomSource(new SplittableRandom(nextLong()));
+  }
+}
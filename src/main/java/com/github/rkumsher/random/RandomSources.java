@@ -0,0 +1,163 @@
+package com.github.rkumsher.random;
+
+import static com.google.common.base.Preconditions.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Factory for the available {@link RandomSource}s and holder of the {@link RandomSource} used by
+ * the static methods of all the random utility classes in this library.
+ *
+ * <p>Unless changed with {@link #setDefault(RandomSource)} the default source is {@link
+ * #threadLocalRandom()}. The default can be overridden for the current thread with a {@link
+ * RandomScope}.
+ */
+public final class RandomSources {
+
+  private static final ThreadLocal<RandomSource> SCOPED_SOURCE = new ThreadLocal<>();
+  private static final SplittableRandom SEED_GENERATOR = new SplittableRandom();
+
+  private static volatile RandomSource defaultSource = ThreadLocalRandomSource.INSTANCE;
+
+  private RandomSources() {}
+
+  /**
+   * Returns a thread-safe {@link RandomSource} backed by {@link ThreadLocalRandom}.
+   *
+   * @return the {@link ThreadLocalRandom} backed {@link RandomSource}
+   */
+  public static RandomSource threadLocalRandom() {
+    return ThreadLocalRandomSource.INSTANCE;
+  }
+
+  /**
+   * Returns a new thread-safe {@link RandomSource} that gives every thread its own {@link
+   * SplittableRandom}.
+   *
+   * @return the per-thread {@link SplittableRandom} backed {@link RandomSource}
+   */
+  public static RandomSource splittableRandom() {
+    return new PerThreadRandomSource(
+        "PerThreadSplittableRandomSource",
+        () -> new SplittableRandomSource(new SplittableRandom(nextSeed())));
+  }
+
+  /**
+   * Returns a new {@link RandomSource} backed by a {@link SplittableRandom} with the given seed.
+   *
+   * <p>Note: The returned {@link RandomSource} is not thread-safe.
+   *
+   * @param seed the initial seed
+   * @return the {@link SplittableRandom} backed {@link RandomSource}
+   */
+  public static RandomSource splittableRandom(long seed) {
+    return new SplittableRandomSource(new SplittableRandom(seed));
+  }
+
+  /**
+   * Returns a new {@link RandomSource} backed by a {@link SplittableRandom} for the stream with the
+   * given index within the family of streams of the given seed. Sources of distinct streams are
+   * independent, while sources of the same seed and stream index always produce the same values.
+   *
+   * <p>Keying the stream by the index of a unit of work, rather than by the thread executing it,
+   * makes parallel generation reproducible regardless of scheduling:
+   *
+   * <pre>
+   *   int[] values =
+   *       IntStream.range(0, size)
+   *           .parallel()
+   *           .map(i -&gt; RandomSources.splittableRandom(seed, i).nextInt(0, 100))
+   *           .toArray();
+   * </pre>
+   *
+   * <p>Note: The returned {@link RandomSource} is not thread-safe.
+   *
+   * @param seed the seed of the family of streams
+   * @param streamIndex the index of the stream within the family
+   * @return the {@link SplittableRandom} backed {@link RandomSource}
+   */
+  public static RandomSource splittableRandom(long seed, long streamIndex) {
+    return splittableRandom(SplitMix64.streamSeed(seed, streamIndex));
+  }
+
+  /**
+   * Returns a new thread-safe {@link RandomSource} that gives every thread its own xoshiro256**
+   * generator.
+   *
+   * @return the per-thread xoshiro256** backed {@link RandomSource}
+   */
+  public static RandomSource xoshiro256() {
+    return new PerThreadRandomSource(
+        "PerThreadXoshiro256StarStarSource", () -> new Xoshiro256StarStarSource(nextSeed()));
+  }
+
+  /**
+   * Returns a new {@link RandomSource} backed by a xoshiro256** generator with the given seed.
+   *
+   * <p>Note: The returned {@link RandomSource} is not thread-safe.
+   *
+   * @param seed the initial seed
+   * @return the xoshiro256** backed {@link RandomSource}
+   */
+  public static RandomSource xoshiro256(long seed) {
+    return new Xoshiro256StarStarSource(seed);
+  }
+
+  /**
+   * Returns the {@link RandomSource} used when no {@link RandomScope} is active.
+   *
+   * @return the default {@link RandomSource}
+   */
+  public static RandomSource getDefault() {
+    return defaultSource;
+  }
+
+  /**
+   * Sets the {@link RandomSource} used when no {@link RandomScope} is active. Since the default is
+   * shared by every thread the given source must be thread-safe.
+   *
+   * @param source the new default {@link RandomSource}
+   * @throws IllegalArgumentException if source is null
+   */
+  public static void setDefault(RandomSource source) {
+    checkArgument(source != null, "Source must be non-null");
+    defaultSource = source;
+  }
+
+  /**
+   * Returns the {@link RandomSource} of the {@link RandomScope} active on the current thread, or
+   * the default {@link RandomSource} if there is none.
+   *
+   * @return the current {@link RandomSource}
+   */
+  public static RandomSource current() {
+    RandomSource scopedSource = SCOPED_SOURCE.get();
+    return scopedSource != null ? scopedSource : defaultSource;
+  }
+
+  /**
+   * Calls the given supplier with the given {@link RandomSource} as the current source of this
+   * thread, restoring the previous source afterwards.
+   */
+  static <T> T callWith(RandomSource source, Supplier<T> supplier) {
+    RandomSource previous = SCOPED_SOURCE.get();
+    SCOPED_SOURCE.set(source);
+    try {
+      return supplier.get();
+    } finally {
+      if (previous == null) {
+        SCOPED_SOURCE.remove();
+      } else {
+        SCOPED_SOURCE.set(previous);
+      }
+    }
+  }
+
+  private static long nextSeed() {
+    synchronized (SEED_GENERATOR) {
+      return SEED_GENERATOR.nextLong();
+    }
+  }
+}
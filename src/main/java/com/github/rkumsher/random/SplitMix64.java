@@ -0,0 +1,31 @@
+package com.github.rkumsher.random;
+
+/** Constants and mixing functions of the SplitMix64 generator used to derive seeds. */
+public final class SplitMix64 {
+
+  /** The odd constant closest to 2<sup>64</sup> divided by the golden ratio. */
+  static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+  private SplitMix64() {}
+
+  /**
+   * Returns the given value scrambled by the SplitMix64 finalizer (variant 13 of David Stafford's
+   * MurmurHash3 mixers).
+   *
+   * @param z the value to scramble
+   * @return the scrambled value
+   */
+  public static long mix64(long z) {
+    z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+    z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+    return z ^ (z >>> 31);
+  }
+
+  /**
+   * Returns the seed of the stream with the given index within the family of streams of the given
+   * seed. Distinct indexes always result in distinct seeds.
+   */
+  static long streamSeed(long seed, long streamIndex) {
+    return mix64(mix64(seed) + (streamIndex + 1) * GOLDEN_GAMMA);
+  }
+}
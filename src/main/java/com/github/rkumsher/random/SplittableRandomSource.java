@@ -0,0 +1,47 @@
+package com.github.rkumsher.random;
+
+import java.util.SplittableRandom;
+
+/**
+ * {@link RandomSource} backed by a {@link SplittableRandom}.
+ *
+ * <p>Note: Instances are not thread-safe.
+ */
+final class SplittableRandomSource implements RandomSource {
+
+  private final SplittableRandom random;
+
+  SplittableRandomSource(SplittableRandom random) {
+    this.random = random;
+  }
+
+  @Override
+  public long nextLong() {
+    return random.nextLong();
+  }
+
+  @Override
+  public int nextInt() {
+    return random.nextInt();
+  }
+
+  @Override
+  public double nextDouble() {
+    return random.nextDouble();
+  }
+
+  @Override
+  public boolean nextBoolean() {
+    return random.nextBoolean();
+  }
+
+  @Override
+  public RandomSource split() {
+    return new SplittableRandomSource(random.split());
+  }
+
+  @Override
+  public String toString() {
+    return "SplittableRandomSource";
+  }
+}
@@ -0,0 +1,36 @@
+package com.github.rkumsher.random;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/** {@link RandomSource} backed by {@link ThreadLocalRandom}. */
+final class ThreadLocalRandomSource implements RandomSource {
+
+  static final ThreadLocalRandomSource INSTANCE = new ThreadLocalRandomSource();
+
+  private ThreadLocalRandomSource() {}
+
+  @Override
+  public long nextLong() {
+    return ThreadLocalRandom.current().nextLong();
+  }
+
+  @Override
+  public int nextInt() {
+    return ThreadLocalRandom.current().nextInt();
+  }
+
+  @Override
+  public double nextDouble() {
+    return ThreadLocalRandom.current().nextDouble();
+  }
+
+  @Override
+  public boolean nextBoolean() {
+    return ThreadLocalRandom.current().nextBoolean();
+  }
+
+  @Override
+  public String toString() {
+    return "ThreadLocalRandomSource";
+  }
+}
@@ -0,0 +1,51 @@
+package com.github.rkumsher.random;
+
+/**
+ * {@link RandomSource} implementing the xoshiro256** generator by David Blackman and Sebastiano
+ * Vigna. The 256 bits of state are seeded from a single long using SplitMix64, as recommended by
+ * the authors.
+ *
+ * <p>Note: Instances are not thread-safe.
+ */
+final class Xoshiro256StarStarSource implements RandomSource {
+
+  private long s0;
+  private long s1;
+  private long s2;
+  private long s3;
+
+  Xoshiro256StarStarSource(long seed) {
+    long x = seed;
+    s0 = SplitMix64.mix64(x += SplitMix64.GOLDEN_GAMMA);
+    s1 = SplitMix64.mix64(x += SplitMix64.GOLDEN_GAMMA);
+    s2 = SplitMix64.mix64(x += SplitMix64.GOLDEN_GAMMA);
+    s3 = SplitMix64.mix64(x + SplitMix64.GOLDEN_GAMMA);
+  }
+
+  @Override
+  public long nextLong() {
+    long result = Long.rotateLeft(s1 * 5, 7) * 9;
+    long t = s1 << 17;
+    s2 ^= s0;
+    s3 ^= s1;
+    s1 ^= s2;
+    s0 ^= s3;
+    s2 ^= t;
+    s3 = Long.rotateLeft(s3, 45);
+    return result;
+  }
+
+  /**
+   * Returns a new generator seeded through SplitMix64 from the next value of this one, so the
+   * states of siblings and descendants are unrelated rather than copies of their ancestors.
+   */
+  @Override
+  public RandomSource split() {
+    return new Xoshiro256StarStarSource(nextLong());
+  }
+
+  @Override
+  public String toString() {
+    return "Xoshiro256StarStarSource";
+  }
+}
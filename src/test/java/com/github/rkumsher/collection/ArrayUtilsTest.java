@@ -1,18 +1,51 @@
 package com.github.rkumsher.collection;
 
 import static com.github.rkumsher.collection.ArrayUtils.containsAll;
+import static com.github.rkumsher.collection.ArrayUtils.parallelContainsAll;
 import static com.github.rkumsher.collection.ArrayUtils.randomFrom;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.arrayContainingInAnyOrder;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.isIn;
+import static org.hamcrest.Matchers.isOneOf;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.*;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
 
 import org.junit.Test;
 
+import com.github.rkumsher.random.RandomScope;
+import com.github.rkumsher.random.RandomSources;
+import com.google.common.collect.Sets;
+
 public class ArrayUtilsTest {
 
+  @Test
+  public void sampler_WithEmptyArray_ThrowsIllegalArgumentException() {
+    try {
+      ArrayUtils.sampler(new String[0]);
+      fail("Should have thrown an IllegalArgumentException");
+    } catch (IllegalArgumentException ex) {
+      assertThat(ex.getMessage(), is("Array cannot be empty"));
+    }
+  }
+
+  @Test
+  public void sampler_IsNotAffectedByLaterChangesToArray() {
+    String[] array = {"1"};
+    Sampler<String> sampler = ArrayUtils.sampler(array);
+    array[0] = "2";
+    assertThat(sampler.next(), is("1"));
+  }
+
   @Test
   public void randomFrom_WithEmptyArray_ThrowsIllegalArgumentException() {
     try {
@@ -64,6 +97,99 @@ public class ArrayUtilsTest {
     }
   }
 
+  @Test
+  public void randomFrom_WithExcludesCollection_ReturnsElementFromArrayNotInExcludes() {
+    Integer[] array = new Integer[1000];
+    Arrays.setAll(array, i -> i);
+    Set<Integer> excludes = Sets.newHashSet(Arrays.asList(array).subList(0, 999));
+    assertThat(randomFrom(array, excludes), is(999));
+    assertThat(randomFrom(array, Arrays.asList(0, 1, 2)), greaterThan(2));
+  }
+
+  @Test
+  public void randomFrom_WithEmptyIntArray_ThrowsIllegalArgumentException() {
+    try {
+      randomFrom(new int[0]);
+      fail("Should have thrown an IllegalArgumentException");
+    } catch (IllegalArgumentException ex) {
+      assertThat(ex.getMessage(), is("Array cannot be empty"));
+    }
+  }
+
+  @Test
+  public void randomFrom_WithNullIntArray_ThrowsIllegalArgumentException() {
+    try {
+      randomFrom((int[]) null);
+      fail("Should have thrown an IllegalArgumentException");
+    } catch (IllegalArgumentException ex) {
+      assertThat(ex.getMessage(), is("Array cannot be empty"));
+    }
+  }
+
+  @Test
+  public void randomFrom_WithNullLongArrayAndExcludes_ThrowsIllegalArgumentException() {
+    try {
+      randomFrom((long[]) null, 1L);
+      fail("Should have thrown an IllegalArgumentException");
+    } catch (IllegalArgumentException ex) {
+      assertThat(ex.getMessage(), is("Array cannot be empty"));
+    }
+  }
+
+  @Test
+  public void randomFrom_ReturnsElementFromGivenIntArray() {
+    int[] array = {4, 8, 15, 16, 23, 42};
+    assertThat(randomFrom(array), isOneOf(4, 8, 15, 16, 23, 42));
+  }
+
+  @Test
+  public void randomFrom_WithIntExcludes_ReturnsElementFromIntArrayNotInExcludes() {
+    int[] array = {1, 2, 2, 3};
+    assertThat(randomFrom(array, 1, 2, 5), is(3));
+  }
+
+  @Test
+  public void randomFrom_WhenIntArrayOnlyContainsExcludes_ThrowsIllegalArgumentException() {
+    int[] array = {1, 2, 2, 3};
+    try {
+      randomFrom(array, 3, 1, 2);
+      fail("Should have thrown an IllegalArgumentException");
+    } catch (IllegalArgumentException ex) {
+      assertThat(ex.getMessage(), is("Array only consists of the given excludes"));
+    }
+  }
+
+  @Test
+  public void randomFrom_WithSparseLongExcludes_ReturnsElementNotInExcludes() {
+    long[] array = new long[1000];
+    Arrays.setAll(array, i -> i);
+    for (int i = 0; i < 1000; i++) {
+      assertThat(randomFrom(array, 0L, 1L, 2L, 500L), not(isOneOf(0L, 1L, 2L, 500L)));
+    }
+  }
+
+  @Test
+  public void randomFrom_WithPrimitiveExcludes_ReturnsElementFromArrayNotInExcludes() {
+    assertThat(randomFrom(new double[] {1.5, 2.5, 3.5}, 3.5, 1.5), is(2.5));
+    assertThat(randomFrom(new char[] {'a', 'b', 'c'}, 'a', 'c'), is('b'));
+    assertThat(randomFrom(new byte[] {1, 2, 3}, (byte) 1, (byte) 2), is((byte) 3));
+    assertThat(randomFrom(new short[] {1, 2, 3}, (short) 3, (short) 2), is((short) 1));
+    assertThat(randomFrom(new float[] {1f, 2f, 3f}, 1f, 3f), is(2f));
+  }
+
+  @Test
+  public void randomFrom_WithIntExcludes_ReturnsEveryRemainingElementWithEqualProbability() {
+    int[] array = {0, 1, 2, 3, 4};
+    int[] counts = new int[5];
+    for (int i = 0; i < 40_000; i++) {
+      counts[randomFrom(array, 4)]++;
+    }
+    assertThat(counts[4], is(0));
+    for (int count : Arrays.copyOf(counts, 4)) {
+      assertThat(count, allOf(greaterThan(9_000), lessThan(11_000)));
+    }
+  }
+
   @Test
   public void containsAll_WhenElementsToCheckForIsEmpty_ReturnsTrue() {
     assertThat(containsAll(new String[0], Collections.emptyList()), is(true));
@@ -87,4 +213,118 @@ public class ArrayUtilsTest {
     String[] arrayToCheck = new String[] {"a", "b"};
     assertThat(containsAll(arrayToCheck, "a", "b", "a", "b"), is(true));
   }
+
+  @Test
+  public void parallelContainsAll_ReturnsWhetherArrayToCheckContainsAllElements() {
+    String[] arrayToCheck = new String[] {"a", "b"};
+    assertThat(parallelContainsAll(arrayToCheck, "a", "b", "a", "b"), is(true));
+    assertThat(parallelContainsAll(arrayToCheck, "a", "c"), is(false));
+  }
+
+  @Test
+  public void shuffle_ProducesEveryPermutationWithEqualProbability() {
+    Map<String, Integer> counts = new HashMap<>();
+    for (int i = 0; i < 60_000; i++) {
+      int[] array = {0, 1, 2};
+      ArrayUtils.shuffle(array);
+      counts.merge(Arrays.toString(array), 1, Integer::sum);
+    }
+    assertThat(counts.size(), is(6));
+    for (int count : counts.values()) {
+      assertThat(count, allOf(greaterThan(9_000), lessThan(11_000)));
+    }
+  }
+
+  @Test
+  public void shuffle_KeepsElementsOfEveryArrayType() {
+    String[] objects = {"a", "b", "c", "d"};
+    ArrayUtils.shuffle(objects);
+    assertThat(objects, arrayContainingInAnyOrder("a", "b", "c", "d"));
+    char[] chars = {'a', 'b', 'c', 'd'};
+    ArrayUtils.shuffle(chars);
+    Arrays.sort(chars);
+    assertThat(chars, is(new char[] {'a', 'b', 'c', 'd'}));
+    boolean[] booleans = {true, false, false};
+    ArrayUtils.shuffle(booleans);
+    assertThat(booleans[0] ^ booleans[1] ^ booleans[2], is(true));
+    double[] doubles = {};
+    ArrayUtils.shuffle(doubles);
+    assertThat(doubles.length, is(0));
+  }
+
+  @Test
+  public void partialShuffle_ShufflesRandomSampleIntoFirstPositions() {
+    int[] counts = new int[10];
+    for (int i = 0; i < 10_000; i++) {
+      long[] array = {0, 1, 2, 3, 4, 5, 6, 7, 8, 9};
+      ArrayUtils.partialShuffle(array, 3);
+      for (int position = 0; position < 3; position++) {
+        counts[(int) array[position]]++;
+      }
+      Arrays.sort(array);
+      assertThat(array, is(new long[] {0, 1, 2, 3, 4, 5, 6, 7, 8, 9}));
+    }
+    for (int count : counts) {
+      assertThat(count, allOf(greaterThan(2_700), lessThan(3_300)));
+    }
+  }
+
+  @Test
+  public void partialShuffle_WithCountGreaterThanLength_ThrowsIllegalArgumentException() {
+    try {
+      ArrayUtils.partialShuffle(new int[2], 3);
+      fail("Should have thrown an IllegalArgumentException");
+    } catch (IllegalArgumentException ex) {
+      assertThat(
+          ex.getMessage(), is("Count must be less than or equal to the length of the array"));
+    }
+  }
+
+  @Test
+  public void partialShuffle_WithNegativeCount_ThrowsIllegalArgumentException() {
+    try {
+      ArrayUtils.partialShuffle(new String[2], -1);
+      fail("Should have thrown an IllegalArgumentException");
+    } catch (IllegalArgumentException ex) {
+      assertThat(ex.getMessage(), is("Count must be greater than or equal to zero"));
+    }
+  }
+
+  @Test
+  public void parallelShuffle_WithLargeArray_ProducesUniformPermutation() {
+    int length = 1 << 18;
+    int[] array = new int[length];
+    for (int i = 0; i < length; i++) {
+      array[i] = i;
+    }
+    ArrayUtils.parallelShuffle(array);
+    int firstQuarterInFirstQuarter = 0;
+    for (int i = 0; i < length / 4; i++) {
+      if (array[i] < length / 4) {
+        firstQuarterInFirstQuarter++;
+      }
+    }
+    assertThat(firstQuarterInFirstQuarter, allOf(greaterThan(15_800), lessThan(17_000)));
+    Arrays.sort(array);
+    for (int i = 0; i < length; i++) {
+      assertThat(array[i], is(i));
+    }
+  }
+
+  @Test
+  public void parallelShuffle_WithSeededSource_IsReproducible() {
+    Long[] array = new Long[1 << 17];
+    Arrays.setAll(array, Long::valueOf);
+    Long[] first = array.clone();
+    Long[] second = array.clone();
+    RandomScope.of(RandomSources.splittableRandom(42))
+        .run(() -> ArrayUtils.parallelShuffle(first));
+    RandomScope.of(RandomSources.splittableRandom(42))
+        .run(() -> ArrayUtils.parallelShuffle(second));
+    assertThat(first, is(second));
+    assertThat(first, is(not(array)));
+    long[] primitives = new long[1 << 17];
+    ArrayUtils.parallelShuffle(primitives);
+    assertThat(primitives.length, is(1 << 17));
+  }
 }
@@ -1,21 +1,55 @@
 package com.github.rkumsher.collection;
 
 import static com.github.rkumsher.collection.IterableUtils.containsAll;
+import static com.github.rkumsher.collection.IterableUtils.parallelContainsAll;
+import static com.google.common.collect.DiscreteDomain.integers;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.isIn;
+import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.*;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.junit.Test;
 
+import com.google.common.collect.ContiguousSet;
+import com.google.common.collect.FluentIterable;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Range;
 
 public class IterableUtilsTest {
 
+  @Test
+  public void sampler_WithEmptyIterable_ThrowsIllegalArgumentException() {
+    try {
+      IterableUtils.sampler(FluentIterable.of());
+      fail("Should have thrown an IllegalArgumentException");
+    } catch (IllegalArgumentException ex) {
+      assertThat(ex.getMessage(), is("Iterable cannot be empty"));
+    }
+  }
+
+  @Test
+  public void sampler_IsNotAffectedByLaterChangesToIterable() {
+    List<String> elements = Lists.newArrayList("1");
+    Sampler<String> sampler = IterableUtils.sampler(elements);
+    elements.set(0, "2");
+    assertThat(sampler.next(), is("1"));
+    assertThat(IterableUtils.sampler(FluentIterable.of("3")).next(), is("3"));
+  }
+
   @Test
   public void randomFrom_WithEmptyCollection_ThrowsIllegalArgumentException() {
     try {
@@ -39,6 +73,41 @@ public class IterableUtilsTest {
     assertThat(IterableUtils.randomFrom(collection), isIn(collection));
   }
 
+  @Test
+  public void randomFrom_WithLinkedList_ReturnsElementFromGivenList() {
+    Collection<String> list = Lists.newLinkedList(Arrays.asList("1", "2", "3"));
+    assertThat(IterableUtils.randomFrom(list), isIn(list));
+  }
+
+  @Test
+  public void randomFrom_WithIterableThatCanOnlyBeIteratedOnce_ReturnsElementFromIterable() {
+    List<String> elements = Arrays.asList("1", "2", "3");
+    Iterable<String> oneShot = Collections.singleton(elements.iterator()).iterator()::next;
+    assertThat(IterableUtils.randomFrom(oneShot), isIn(elements));
+  }
+
+  @Test
+  public void randomFrom_WithEmptyIterable_ThrowsIllegalArgumentException() {
+    try {
+      IterableUtils.randomFrom(FluentIterable.of());
+      fail("Should have thrown an IllegalArgumentException");
+    } catch (IllegalArgumentException ex) {
+      assertThat(ex.getMessage(), is("Iterable cannot be empty"));
+    }
+  }
+
+  @Test
+  public void randomFrom_WithIterable_ReturnsEveryElementWithEqualProbability() {
+    Iterable<Integer> iterable = FluentIterable.from(Arrays.asList(0, 1, 2, 3));
+    int[] counts = new int[4];
+    for (int i = 0; i < 40_000; i++) {
+      counts[IterableUtils.randomFrom(iterable)]++;
+    }
+    for (int count : counts) {
+      assertThat(count, allOf(greaterThan(9_000), lessThan(11_000)));
+    }
+  }
+
   @Test
   public void randomFrom_WhenCollectionOnlyContainsExcludes_ThrowsIllegalArgumentException() {
     Collection<String> collection = Lists.newArrayList("1", "2", "2", "3");
@@ -63,6 +132,53 @@ public class IterableUtilsTest {
     assertThat(IterableUtils.randomFrom(immutableCollection, "1"), is("2"));
   }
 
+  @Test
+  public void randomFrom_WithSparseExcludes_ReturnsElementNotInExcludes() {
+    List<Integer> list = ContiguousSet.create(Range.closedOpen(0, 1000), integers()).asList();
+    Set<Integer> excludes = ContiguousSet.create(Range.closedOpen(0, 100), integers());
+    for (int i = 0; i < 1000; i++) {
+      assertThat(IterableUtils.randomFrom(list, excludes), greaterThanOrEqualTo(100));
+    }
+  }
+
+  @Test
+  public void randomFrom_WithDenseExcludes_ReturnsElementNotInExcludes() {
+    List<Integer> list =
+        Lists.newArrayList(ContiguousSet.create(Range.closedOpen(0, 1000), integers()));
+    Collection<Integer> excludes = Lists.newArrayList(list.subList(1, 1000));
+    assertThat(IterableUtils.randomFrom(list, excludes), is(0));
+  }
+
+  @Test
+  public void randomFrom_WithExcludesAndIterable_ReturnsElementNotInExcludes() {
+    Iterable<String> iterable = FluentIterable.from(Arrays.asList("1", "2", "3", "2"));
+    assertThat(IterableUtils.randomFrom(iterable, "1", "2"), is("3"));
+  }
+
+  @Test
+  public void randomFrom_WhenIterableOnlyContainsExcludes_ThrowsIllegalArgumentException() {
+    Iterable<String> iterable = FluentIterable.from(Arrays.asList("1", "2"));
+    try {
+      IterableUtils.randomFrom(iterable, "1", "2", "3");
+      fail("Should have thrown an IllegalArgumentException");
+    } catch (IllegalArgumentException ex) {
+      assertThat(ex.getMessage(), is("Iterable only consists of the given excludes"));
+    }
+  }
+
+  @Test
+  public void randomFrom_WithExcludes_ReturnsEveryRemainingElementWithEqualProbability() {
+    Iterable<Integer> iterable = FluentIterable.from(Arrays.asList(0, 1, 2, 3, 4));
+    int[] counts = new int[5];
+    for (int i = 0; i < 40_000; i++) {
+      counts[IterableUtils.randomFrom(iterable, 4)]++;
+    }
+    assertThat(counts[4], is(0));
+    for (int count : Arrays.copyOf(counts, 4)) {
+      assertThat(count, allOf(greaterThan(9_000), lessThan(11_000)));
+    }
+  }
+
   @Test
   public void randomFrom_WithExcludesAndEmptyCollection_ThrowsIllegalArgumentException() {
     try {
@@ -103,4 +219,68 @@ public class IterableUtilsTest {
     Iterable<String> iterableToCheck = Lists.newArrayList("a", "b");
     assertThat(containsAll(iterableToCheck, "a", "b", "a", "b"), is(true));
   }
+
+  @Test
+  public void containsAll_WithLargeIterableToCheck_ReturnsWhetherAllElementsAreContained() {
+    List<Integer> iterableToCheck =
+        Lists.newArrayList(ContiguousSet.create(Range.closedOpen(0, 1000), integers()));
+    assertThat(containsAll(iterableToCheck, iterableToCheck), is(true));
+    assertThat(containsAll(iterableToCheck, 5, 999, 0), is(true));
+    assertThat(containsAll(iterableToCheck, 5, 1000), is(false));
+  }
+
+  @Test
+  public void containsAll_WithUnsizedIterableToCheck_ReturnsWhetherAllElementsAreContained() {
+    Iterable<String> iterableToCheck = FluentIterable.from(Arrays.asList("a", null, "b"));
+    assertThat(containsAll(iterableToCheck, "a", null), is(true));
+    assertThat(containsAll(iterableToCheck, "a", "c"), is(false));
+  }
+
+  @Test
+  public void parallelContainsAll_WhenIterableToCheckContainsAllElements_ReturnsTrue() {
+    List<Integer> iterableToCheck =
+        Lists.newArrayList(ContiguousSet.create(Range.closedOpen(0, 100_000), integers()));
+    assertThat(parallelContainsAll(iterableToCheck, Lists.reverse(iterableToCheck)), is(true));
+  }
+
+  @Test
+  public void parallelContainsAll_WhenIterableToCheckDoesNotContainElement_ReturnsFalse() {
+    Set<Integer> iterableToCheck = ContiguousSet.create(Range.closedOpen(0, 100_000), integers());
+    assertThat(parallelContainsAll(iterableToCheck, 5, -1, 7), is(false));
+  }
+
+  @Test
+  public void shuffle_ProducesEveryPermutationOfListWithEqualProbability() {
+    for (List<Integer> list :
+        Arrays.<List<Integer>>asList(Lists.newArrayList(0, 1, 2), Lists.newLinkedList())) {
+      Map<List<Integer>, Integer> counts = new HashMap<>();
+      for (int i = 0; i < 60_000; i++) {
+        list.clear();
+        list.addAll(Arrays.asList(0, 1, 2));
+        IterableUtils.shuffle(list);
+        counts.merge(ImmutableList.copyOf(list), 1, Integer::sum);
+      }
+      assertThat(counts.size(), is(6));
+      for (int count : counts.values()) {
+        assertThat(count, allOf(greaterThan(9_000), lessThan(11_000)));
+      }
+    }
+  }
+
+  @Test
+  public void partialShuffle_WithLinkedList_ShufflesRandomSampleIntoFirstPositions() {
+    List<Integer> list = Lists.newLinkedList(Arrays.asList(0, 1, 2, 3, 4));
+    IterableUtils.partialShuffle(list, 2);
+    assertThat(list, containsInAnyOrder(0, 1, 2, 3, 4));
+  }
+
+  @Test
+  public void partialShuffle_WithCountGreaterThanSize_ThrowsIllegalArgumentException() {
+    try {
+      IterableUtils.partialShuffle(Lists.newArrayList(1), 2);
+      fail("Should have thrown an IllegalArgumentException");
+    } catch (IllegalArgumentException ex) {
+      assertThat(ex.getMessage(), is("Count must be less than or equal to the size of the list"));
+    }
+  }
 }
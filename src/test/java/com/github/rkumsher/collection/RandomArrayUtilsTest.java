@@ -1,19 +1,35 @@
 package com.github.rkumsher.collection;
 
+import static com.github.rkumsher.collection.RandomArrayUtils.parallelRandomArrayFrom;
 import static com.github.rkumsher.collection.RandomArrayUtils.randomArrayFrom;
+import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.arrayContaining;
 import static org.hamcrest.Matchers.arrayWithSize;
 import static org.hamcrest.Matchers.emptyArray;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.isIn;
+import static org.hamcrest.Matchers.isOneOf;
+import static org.hamcrest.Matchers.lessThan;
 import static org.junit.Assert.*;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
 
 import org.junit.Test;
 
+import com.github.rkumsher.number.RandomNumberUtils;
+import com.github.rkumsher.random.ParallelRandom;
+import com.github.rkumsher.random.RandomScope;
+import com.github.rkumsher.random.RandomSources;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Range;
+import com.google.common.collect.Sets;
 
 public class RandomArrayUtilsTest {
 
@@ -95,4 +111,104 @@ public class RandomArrayUtilsTest {
     assertThat(array, arrayWithSize(10));
     assertThat(Arrays.asList(array), everyItem(isIn(from)));
   }
+
+  @Test
+  public void randomArrayFrom_WithMinAndMaxSize_ReturnsArrayWithSizeBetweenBoth() {
+    Object[] from = new Object[] {new Object(), new Object()};
+    Object[] array = randomArrayFrom(from, 2, 4);
+    assertThat(array.length, isOneOf(2, 3, 4));
+    assertThat(Arrays.asList(array), everyItem(isIn(from)));
+    assertThat(randomArrayFrom(Object::new, 3, 3), arrayWithSize(3));
+  }
+
+  @Test
+  public void randomArrayFrom_WithMaxSizeLessThanMinSize_ThrowsIllegalArgumentException() {
+    try {
+      randomArrayFrom(Object::new, 2, 1);
+      fail("Should have thrown an IllegalArgumentException");
+    } catch (IllegalArgumentException ex) {
+      assertThat(ex.getMessage(), is("Max size must be greater than or equal to min size"));
+    }
+  }
+
+  @Test
+  public void randomArrayFrom_WithTypedElements_ReturnsArrayOfSameType() {
+    String[] array = randomArrayFrom(new String[] {"a", "b"}, 3);
+    assertThat(array, arrayWithSize(3));
+    assertThat(Arrays.asList(array), everyItem(isOneOf("a", "b")));
+    String[] rangeArray = randomArrayFrom(new String[] {"a"}, Range.singleton(2));
+    assertThat(rangeArray, arrayContaining("a", "a"));
+  }
+
+  @Test
+  public void randomArrayFrom_WithComponentType_ReturnsTypedArray() {
+    String[] array = randomArrayFrom(() -> "a", 2, String.class);
+    assertThat(array, arrayContaining("a", "a"));
+  }
+
+  @Test
+  public void randomArrayFrom_WithArrayGenerator_ReturnsTypedArray() {
+    CharSequence[] array = randomArrayFrom(() -> "a", 2, CharSequence[]::new);
+    assertThat(array.getClass(), equalTo(CharSequence[].class));
+    assertThat(array, arrayContaining("a", "a"));
+  }
+
+  @Test
+  public void randomArrayFrom_WithPrimitiveComponentType_ThrowsIllegalArgumentException() {
+    try {
+      randomArrayFrom(() -> 1, 2, int.class);
+      fail("Should have thrown an IllegalArgumentException");
+    } catch (IllegalArgumentException ex) {
+      assertThat(ex.getMessage(), is("Component type must not be primitive"));
+    }
+  }
+
+  @Test
+  public void parallelRandomArrayFrom_ReturnsTypedArrayFilledFromSupplier() {
+    int size = ParallelRandom.BLOCK_SIZE * 3 + 1;
+    Integer[] array =
+        parallelRandomArrayFrom(() -> RandomNumberUtils.randomInt(0, 10), size, Integer.class);
+    assertThat(array, arrayWithSize(size));
+    assertThat(Arrays.asList(array), everyItem(allOf(greaterThanOrEqualTo(0), lessThan(10))));
+  }
+
+  @Test
+  public void parallelRandomArrayFrom_WithSameSeed_ReturnsSameArray() {
+    int size = ParallelRandom.BLOCK_SIZE * 3 + 1;
+    Supplier<Integer> supplier = () -> RandomNumberUtils.randomInt(0, 1000);
+    Integer[] first =
+        RandomScope.of(RandomSources.splittableRandom(42))
+            .get(() -> parallelRandomArrayFrom(supplier, size, Integer[]::new));
+    Integer[] second =
+        RandomScope.of(RandomSources.splittableRandom(42))
+            .get(() -> parallelRandomArrayFrom(supplier, size, Integer[]::new));
+    assertThat(first, equalTo(second));
+  }
+
+  @Test
+  public void parallelRandomArrayFrom_WithIterable_ReturnsArrayFilledWithElementsFromIterable() {
+    Set<Integer> from = Sets.newHashSet(1, 2, 3);
+    Integer[] array =
+        parallelRandomArrayFrom(from, ParallelRandom.BLOCK_SIZE * 3 + 1, Integer[]::new);
+    assertThat(array, arrayWithSize(ParallelRandom.BLOCK_SIZE * 3 + 1));
+    assertThat(Arrays.asList(array), everyItem(isIn(from)));
+  }
+
+  @Test
+  public void parallelRandomArrayFrom_WithIterableAndComponentType_ReturnsTypedArray() {
+    List<String> from = Lists.newArrayList("a", "b", "c");
+    String[] array = parallelRandomArrayFrom(from, ParallelRandom.BLOCK_SIZE + 1, String.class);
+    assertThat(array.getClass().getComponentType(), equalTo(String.class));
+    assertThat(Arrays.asList(array), everyItem(isIn(from)));
+  }
+
+  @Test
+  public void parallelRandomArrayFrom_WithEmptyIterable_ThrowsIllegalArgumentException() {
+    try {
+      parallelRandomArrayFrom(Collections.<String>emptyList(), 1, String[]::new);
+      fail("Should have thrown an IllegalArgumentException");
+    } catch (IllegalArgumentException ex) {
+      assertThat(ex.getMessage(), is("Elements to populate random array from must not be empty"));
+    }
+  }
 }
@@ -1,22 +1,46 @@
 package com.github.rkumsher.collection;
 
+import static com.github.rkumsher.collection.RandomCollectionUtils.parallelRandomDistinctSetFrom;
+import static com.github.rkumsher.collection.RandomCollectionUtils.parallelRandomListFrom;
+import static com.github.rkumsher.collection.RandomCollectionUtils.randomCollectionFrom;
+import static com.github.rkumsher.collection.RandomCollectionUtils.randomDistinctSetFrom;
+import static com.github.rkumsher.collection.RandomCollectionUtils.randomImmutableListFrom;
 import static com.github.rkumsher.collection.RandomCollectionUtils.randomListFrom;
+import static com.github.rkumsher.collection.RandomCollectionUtils.randomSampleFrom;
 import static com.github.rkumsher.collection.RandomCollectionUtils.randomSetFrom;
+import static com.google.common.collect.DiscreteDomain.integers;
+import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.isIn;
+import static org.hamcrest.Matchers.isOneOf;
+import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.*;
 
+import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import org.junit.Test;
 
+import com.github.rkumsher.number.RandomNumberUtils;
+import com.github.rkumsher.random.ParallelRandom;
+import com.github.rkumsher.random.RandomScope;
+import com.github.rkumsher.random.RandomSources;
+import com.google.common.collect.ContiguousSet;
+import com.google.common.collect.FluentIterable;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Range;
 import com.google.common.collect.Sets;
@@ -186,4 +210,228 @@ public class RandomCollectionUtilsTest {
     assertThat(list, hasSize(10));
     assertThat(list, everyItem(isIn(from)));
   }
+
+  @Test
+  public void randomListFrom_WithSet_ReturnsElementsOfSetWithEqualProbability() {
+    Set<Integer> from = ContiguousSet.create(Range.closedOpen(0, 10), integers());
+    int[] counts = new int[10];
+    randomListFrom(from, 100_000).forEach(element -> counts[element]++);
+    for (int count : counts) {
+      assertThat(count, allOf(greaterThan(9_000), lessThan(11_000)));
+    }
+  }
+
+  @Test
+  public void parallelRandomListFrom_WithSet_ReturnsListFilledWithElementsFromSet() {
+    Set<Integer> from = Sets.newHashSet(1, 2, 3);
+    List<Integer> list = parallelRandomListFrom(from, ParallelRandom.BLOCK_SIZE * 3 + 1);
+    assertThat(list, hasSize(ParallelRandom.BLOCK_SIZE * 3 + 1));
+    assertThat(list, everyItem(isIn(from)));
+  }
+
+  @Test
+  public void parallelRandomListFrom_WithEmptyCollection_ThrowsIllegalArgumentException() {
+    try {
+      parallelRandomListFrom(Collections.emptySet(), 1);
+      fail("Should have thrown an IllegalArgumentException");
+    } catch (IllegalArgumentException ex) {
+      assertThat(ex.getMessage(), is("Elements to populate from must not be empty"));
+    }
+  }
+
+  @Test
+  public void randomListFrom_WithMinAndMaxSize_ReturnsListWithSizeBetweenBoth() {
+    List<Object> from = Lists.newArrayList(new Object(), new Object());
+    List<Object> list = randomListFrom(from, 2, 4);
+    assertThat(list.size(), isOneOf(2, 3, 4));
+    assertThat(list, everyItem(isIn(from)));
+    assertThat(randomListFrom(Object::new, 3, 3), hasSize(3));
+  }
+
+  @Test
+  public void randomSetFrom_WithMinAndMaxAttemptedSize_ReturnsSetWithSizeUpToMax() {
+    assertThat(randomSetFrom(Object::new, 3, 3), hasSize(3));
+    assertThat(randomSetFrom(Lists.newArrayList(1, 2), 0, 10), hasSize(lessThanOrEqualTo(2)));
+  }
+
+  @Test
+  public void randomListFrom_WithNegativeMinSize_ThrowsIllegalArgumentException() {
+    try {
+      randomListFrom(Object::new, -1, 1);
+      fail("Should have thrown an IllegalArgumentException");
+    } catch (IllegalArgumentException ex) {
+      assertThat(ex.getMessage(), is("Size range must consist of only positive integers"));
+    }
+  }
+
+  @Test
+  public void randomImmutableListFrom_ReturnsImmutableListOfGivenSize() {
+    ImmutableList<Integer> list = randomImmutableListFrom(() -> 1, 5);
+    assertThat(list, contains(1, 1, 1, 1, 1));
+  }
+
+  @Test
+  public void randomImmutableListFrom_WithNegativeSize_ThrowsIllegalArgumentException() {
+    try {
+      randomImmutableListFrom(Object::new, -1);
+      fail("Should have thrown an IllegalArgumentException");
+    } catch (IllegalArgumentException ex) {
+      assertThat(ex.getMessage(), is("Size must be greater than or equal to zero"));
+    }
+  }
+
+  @Test
+  public void randomCollectionFrom_AddsElementsToGivenCollection() {
+    Deque<Integer> deque = new ArrayDeque<>(Collections.singleton(0));
+    Deque<Integer> result = randomCollectionFrom(() -> 1, 3, deque);
+    assertThat(result, sameInstance(deque));
+    assertThat(result, contains(0, 1, 1, 1));
+  }
+
+  @Test
+  public void parallelRandomListFrom_ReturnsListOfGivenSizeFilledFromSupplier() {
+    int size = ParallelRandom.BLOCK_SIZE * 3 + 1;
+    List<Integer> list = parallelRandomListFrom(() -> RandomNumberUtils.randomInt(0, 10), size);
+    assertThat(list, hasSize(size));
+    assertThat(list, everyItem(allOf(greaterThanOrEqualTo(0), lessThan(10))));
+  }
+
+  @Test
+  public void parallelRandomListFrom_WithSameSeed_ReturnsSameList() {
+    int size = ParallelRandom.BLOCK_SIZE * 3 + 1;
+    Supplier<Integer> supplier = () -> RandomNumberUtils.randomInt(0, 1000);
+    List<Integer> first =
+        RandomScope.of(RandomSources.splittableRandom(42))
+            .get(() -> parallelRandomListFrom(supplier, size));
+    List<Integer> second =
+        RandomScope.of(RandomSources.splittableRandom(42))
+            .get(() -> parallelRandomListFrom(supplier, size));
+    assertThat(first, is(second));
+  }
+
+  @Test
+  public void randomDistinctSetFrom_ReturnsSetOfExactlyGivenSize() {
+    Set<Integer> set = randomDistinctSetFrom(() -> RandomNumberUtils.randomInt(0, 100), 100);
+    assertThat(set, hasSize(100));
+  }
+
+  @Test
+  public void randomDistinctSetFrom_WithZeroSize_ReturnsEmptySet() {
+    assertThat(randomDistinctSetFrom(Object::new, 0), empty());
+  }
+
+  @Test
+  public void randomDistinctSetFrom_WithTooFewDistinctElements_ThrowsIllegalArgumentException() {
+    try {
+      randomDistinctSetFrom(() -> RandomNumberUtils.randomInt(0, 10), 11);
+      fail("Should have thrown an IllegalArgumentException");
+    } catch (IllegalArgumentException ex) {
+      assertThat(ex.getMessage(), is("Element supplier did not return enough distinct elements"));
+    }
+  }
+
+  @Test
+  public void randomDistinctSetFrom_WithNegativeSize_ThrowsIllegalArgumentException() {
+    try {
+      randomDistinctSetFrom(Object::new, -1);
+      fail("Should have thrown an IllegalArgumentException");
+    } catch (IllegalArgumentException ex) {
+      assertThat(ex.getMessage(), is("Size must be greater than or equal to zero"));
+    }
+  }
+
+  @Test
+  public void parallelRandomDistinctSetFrom_ReturnsSetOfExactlyGivenSize() {
+    int size = ParallelRandom.BLOCK_SIZE * 4 + 1;
+    Set<Integer> set =
+        parallelRandomDistinctSetFrom(() -> RandomNumberUtils.randomInt(0, size * 2), size);
+    assertThat(set, hasSize(size));
+    assertThat(set, everyItem(allOf(greaterThanOrEqualTo(0), lessThan(size * 2))));
+  }
+
+  @Test
+  public void parallelRandomDistinctSetFrom_WithTooFewDistinct_ThrowsIllegalArgumentException() {
+    try {
+      parallelRandomDistinctSetFrom(() -> RandomNumberUtils.randomInt(0, 10), 11);
+      fail("Should have thrown an IllegalArgumentException");
+    } catch (IllegalArgumentException ex) {
+      assertThat(ex.getMessage(), is("Element supplier did not return enough distinct elements"));
+    }
+  }
+
+  @Test
+  public void randomSampleFrom_WithList_ReturnsDistinctElementsOfSampleSize() {
+    List<Integer> from = ContiguousSet.create(Range.closedOpen(0, 100), integers()).asList();
+    for (int sampleSize : new int[] {0, 1, 5, 50, 100}) {
+      List<Integer> sample = randomSampleFrom(from, sampleSize);
+      assertThat(sample, hasSize(sampleSize));
+      assertThat(Sets.newHashSet(sample), hasSize(sampleSize));
+      assertThat(sample, everyItem(isIn(from)));
+    }
+  }
+
+  @Test
+  public void randomSampleFrom_WithHugeList_ReturnsDistinctElementsOfSampleSize() {
+    List<Integer> from =
+        ContiguousSet.create(Range.closedOpen(0, Integer.MAX_VALUE), integers()).asList();
+    List<Integer> sample = randomSampleFrom(from, 1000);
+    assertThat(Sets.newHashSet(sample), hasSize(1000));
+  }
+
+  @Test
+  public void randomSampleFrom_WithIterable_ReturnsDistinctElementsOfSampleSize() {
+    Iterable<Integer> from =
+        FluentIterable.from(ContiguousSet.create(Range.closedOpen(0, 100), integers()));
+    List<Integer> sample = randomSampleFrom(from, 30);
+    assertThat(Sets.newHashSet(sample), hasSize(30));
+    assertThat(sample, everyItem(isIn(Lists.newArrayList(from))));
+  }
+
+  @Test
+  public void randomSampleFrom_WithRange_ReturnsSampleOfSizeInRange() {
+    List<Integer> sample = randomSampleFrom(Lists.newArrayList(1, 2, 3, 4), Range.closed(2, 3));
+    assertThat(sample.size(), isOneOf(2, 3));
+    assertThat(Sets.newHashSet(sample), hasSize(sample.size()));
+  }
+
+  @Test
+  public void randomSampleFrom_WithSampleSizeGreaterThanElements_ThrowsIllegalArgumentException() {
+    for (Iterable<Integer> from :
+        Arrays.<Iterable<Integer>>asList(
+            Lists.newArrayList(1, 2), FluentIterable.from(Lists.newArrayList(1, 2)))) {
+      try {
+        randomSampleFrom(from, 3);
+        fail("Should have thrown an IllegalArgumentException");
+      } catch (IllegalArgumentException e) {
+        assertThat(
+            e.getMessage(), is("Sample size must not be greater than the number of elements"));
+      }
+    }
+  }
+
+  @Test
+  public void randomSampleFrom_WithNegativeSampleSize_ThrowsIllegalArgumentException() {
+    try {
+      randomSampleFrom(Lists.newArrayList(1, 2), -1);
+      fail("Should have thrown an IllegalArgumentException");
+    } catch (IllegalArgumentException e) {
+      assertThat(e.getMessage(), is("Size must be greater than or equal to zero"));
+    }
+  }
+
+  @Test
+  public void randomSampleFrom_SamplesEveryElementWithEqualProbability() {
+    List<Integer> list = Lists.newArrayList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+    Iterable<Integer> iterable = FluentIterable.from(list);
+    int[] listCounts = new int[10];
+    int[] iterableCounts = new int[10];
+    for (int i = 0; i < 10_000; i++) {
+      randomSampleFrom(list, 3).forEach(element -> listCounts[element]++);
+      randomSampleFrom(iterable, 3).forEach(element -> iterableCounts[element]++);
+    }
+    for (int element = 0; element < 10; element++) {
+      assertThat(listCounts[element], allOf(greaterThan(2_700), lessThan(3_300)));
+      assertThat(iterableCounts[element], allOf(greaterThan(2_700), lessThan(3_300)));
+    }
+  }
 }
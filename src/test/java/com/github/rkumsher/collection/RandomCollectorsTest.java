@@ -0,0 +1,123 @@
+package com.github.rkumsher.collection;
+
+import static com.github.rkumsher.collection.RandomCollectors.reservoirSample;
+import static com.github.rkumsher.collection.RandomCollectors.weightedReservoirSample;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.*;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+public class RandomCollectorsTest {
+
+  @Test
+  public void reservoirSample_SamplesEveryElementWithEqualProbability() {
+    int[] counts = new int[100];
+    for (int i = 0; i < 10_000; i++) {
+      List<Integer> sample = IntStream.range(0, 100).boxed().collect(reservoirSample(10));
+      assertThat(sample, hasSize(10));
+      sample.forEach(element -> counts[element]++);
+    }
+    for (int count : counts) {
+      assertThat(count, allOf(greaterThan(850), lessThan(1_150)));
+    }
+  }
+
+  @Test
+  public void reservoirSample_InParallel_SamplesEveryElementWithEqualProbability() {
+    int[] counts = new int[10];
+    for (int i = 0; i < 2_000; i++) {
+      List<Integer> sample =
+          IntStream.range(0, 10_000).boxed().parallel().collect(reservoirSample(5));
+      assertThat(sample, hasSize(5));
+      assertThat(sample.stream().distinct().count(), is(5L));
+      sample.forEach(element -> counts[element / 1_000]++);
+    }
+    for (int count : counts) {
+      assertThat(count, allOf(greaterThan(850), lessThan(1_150)));
+    }
+  }
+
+  @Test
+  public void reservoirSample_WithFewerElementsThanSampleSize_ReturnsAllElements() {
+    assertThat(
+        Stream.of(1, 2, 3).parallel().collect(reservoirSample(5)), containsInAnyOrder(1, 2, 3));
+    assertThat(Stream.of(1, 2, 3).collect(reservoirSample(0)), is(empty()));
+  }
+
+  @Test
+  public void reservoirSample_WithNegativeSampleSize_ThrowsIllegalArgumentException() {
+    try {
+      reservoirSample(-1);
+      fail("Should have thrown an IllegalArgumentException");
+    } catch (IllegalArgumentException ex) {
+      assertThat(ex.getMessage(), is("Size must be greater than or equal to zero"));
+    }
+  }
+
+  @Test
+  public void reservoirSample_OfIntStream_SamplesEveryElementWithEqualProbability() {
+    int[] counts = new int[10];
+    for (int i = 0; i < 2_000; i++) {
+      int[] sample = reservoirSample(IntStream.range(0, 10_000).parallel(), 5);
+      assertThat(IntStream.of(sample).distinct().count(), is(5L));
+      IntStream.of(sample).forEach(element -> counts[element / 1_000]++);
+    }
+    for (int count : counts) {
+      assertThat(count, allOf(greaterThan(850), lessThan(1_150)));
+    }
+  }
+
+  @Test
+  public void reservoirSample_OfLongStream_ReturnsElementsOfStream() {
+    long[] sample = reservoirSample(LongStream.range(0, 1_000), 10);
+    assertThat(LongStream.of(sample).distinct().count(), is(10L));
+    assertThat(LongStream.of(sample).allMatch(element -> element < 1_000), is(true));
+    assertThat(reservoirSample(LongStream.of(7), 10), is(new long[] {7}));
+  }
+
+  @Test
+  public void weightedReservoirSample_SamplesElementsProportionallyToTheirWeights() {
+    int heavy = 0;
+    for (int i = 0; i < 10_000; i++) {
+      List<Integer> sample =
+          IntStream.range(0, 10)
+              .boxed()
+              .parallel()
+              .collect(weightedReservoirSample(1, element -> element == 0 ? 9 : 1));
+      if (sample.get(0) == 0) {
+        heavy++;
+      }
+    }
+    assertThat(heavy, allOf(greaterThan(4_700), lessThan(5_300)));
+  }
+
+  @Test
+  public void weightedReservoirSample_NeverSamplesElementsWithoutWeight() {
+    List<Integer> sample =
+        IntStream.range(0, 100)
+            .boxed()
+            .collect(weightedReservoirSample(10, element -> element % 10 == 0 ? 1 : 0));
+    assertThat(sample, containsInAnyOrder(0, 10, 20, 30, 40, 50, 60, 70, 80, 90));
+  }
+
+  @Test
+  public void weightedReservoirSample_WithNegativeWeight_ThrowsIllegalArgumentException() {
+    try {
+      Stream.of(1, 2).collect(weightedReservoirSample(1, element -> -element));
+      fail("Should have thrown an IllegalArgumentException");
+    } catch (IllegalArgumentException ex) {
+      assertThat(ex.getMessage(), is("Weights must be non-negative and finite"));
+    }
+  }
+}
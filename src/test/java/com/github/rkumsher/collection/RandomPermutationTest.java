@@ -0,0 +1,104 @@
+package com.github.rkumsher.collection;
+
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.*;
+
+import java.util.BitSet;
+import java.util.PrimitiveIterator;
+import java.util.stream.LongStream;
+
+import org.junit.Test;
+
+import com.github.rkumsher.random.RandomScope;
+import com.github.rkumsher.random.RandomSources;
+
+public class RandomPermutationTest {
+
+  @Test
+  public void stream_VisitsEveryIndexExactlyOnce() {
+    for (long size : new long[] {0, 1, 2, 3, 1000, 65_537}) {
+      BitSet visited = new BitSet();
+      RandomPermutation.of(size)
+          .stream()
+          .forEach(
+              index -> {
+                assertThat(visited.get((int) index), is(false));
+                visited.set((int) index);
+              });
+      assertThat((long) visited.cardinality(), is(size));
+      assertThat((long) visited.nextClearBit(0), is(size));
+    }
+  }
+
+  @Test
+  public void stream_InParallel_VisitsEveryIndexExactlyOnce() {
+    RandomPermutation permutation = RandomPermutation.of(100_000);
+    long[] indexes = permutation.stream().parallel().toArray();
+    assertThat(indexes, is(permutation.stream().toArray()));
+    assertThat(LongStream.of(indexes).distinct().count(), is(100_000L));
+    assertThat(LongStream.of(indexes).max().getAsLong(), is(99_999L));
+  }
+
+  @Test
+  public void iterator_ReturnsIndexesInPermutedOrder() {
+    RandomPermutation permutation = RandomPermutation.of(10);
+    PrimitiveIterator.OfLong iterator = permutation.iterator();
+    for (long position = 0; position < 10; position++) {
+      assertThat(iterator.nextLong(), is(permutation.get(position)));
+    }
+    assertThat(iterator.hasNext(), is(false));
+  }
+
+  @Test
+  public void get_WithHugeSize_ReturnsIndexesBelowSize() {
+    RandomPermutation permutation = RandomPermutation.of(Long.MAX_VALUE);
+    for (long position = Long.MAX_VALUE - 1000; position < Long.MAX_VALUE; position++) {
+      assertThat(permutation.get(position), allOf(greaterThan(-1L), lessThan(Long.MAX_VALUE)));
+    }
+  }
+
+  @Test
+  public void get_SpreadsFirstPositionUniformly() {
+    int[] counts = new int[10];
+    for (int i = 0; i < 10_000; i++) {
+      counts[(int) RandomPermutation.of(10).get(0)]++;
+    }
+    for (int count : counts) {
+      assertThat(count, allOf(greaterThan(850), lessThan(1_150)));
+    }
+  }
+
+  @Test
+  public void of_WithSeededSource_IsReproducible() {
+    RandomPermutation first =
+        RandomScope.of(RandomSources.splittableRandom(42)).get(() -> RandomPermutation.of(1000));
+    RandomPermutation second =
+        RandomScope.of(RandomSources.splittableRandom(42)).get(() -> RandomPermutation.of(1000));
+    assertThat(first.stream().toArray(), is(second.stream().toArray()));
+    assertThat(first.stream().toArray(), is(not(LongStream.range(0, 1000).toArray())));
+  }
+
+  @Test
+  public void of_WithNegativeSize_ThrowsIllegalArgumentException() {
+    try {
+      RandomPermutation.of(-1);
+      fail("Should have thrown an IllegalArgumentException");
+    } catch (IllegalArgumentException ex) {
+      assertThat(ex.getMessage(), is("Size must be greater than or equal to zero"));
+    }
+  }
+
+  @Test
+  public void get_WithPositionOutOfBounds_ThrowsIllegalArgumentException() {
+    try {
+      RandomPermutation.of(10).get(10);
+      fail("Should have thrown an IllegalArgumentException");
+    } catch (IllegalArgumentException ex) {
+      assertThat(ex.getMessage(), is("Position must be between zero and the size (exclusive)"));
+    }
+  }
+}
@@ -0,0 +1,93 @@
+package com.github.rkumsher.collection;
+
+import static com.github.rkumsher.collection.RandomSizes.randomSize;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.google.common.collect.Range;
+
+public class RandomSizesTest {
+
+  @Test
+  public void randomSize_WithClosedRange_ReturnsSizeWithinRange() {
+    for (int i = 0; i < 1000; i++) {
+      assertThat(randomSize(Range.closed(3, 5)), allOf(greaterThanOrEqualTo(3), lessThan(6)));
+    }
+  }
+
+  @Test
+  public void randomSize_WithOpenRange_ReturnsSizeWithinRange() {
+    for (int i = 0; i < 1000; i++) {
+      assertThat(randomSize(Range.open(3, 5)), is(4));
+    }
+  }
+
+  @Test
+  public void randomSize_WithRangeUnboundedAbove_ReturnsSizeAboveLowerBound() {
+    assertThat(randomSize(Range.greaterThan(Integer.MAX_VALUE - 1)), is(Integer.MAX_VALUE));
+    assertThat(randomSize(Range.atLeast(10)), greaterThanOrEqualTo(10));
+  }
+
+  @Test
+  public void randomSize_WithHugeRange_ReturnsSizeWithinRange() {
+    assertThat(
+        randomSize(Range.closed(0, 50_000_000)),
+        allOf(greaterThanOrEqualTo(0), lessThanOrEqualTo(50_000_000)));
+  }
+
+  @Test
+  public void randomSize_ReturnsEverySizeOfRange() {
+    int[] counts = new int[4];
+    for (int i = 0; i < 4000; i++) {
+      counts[randomSize(Range.closedOpen(0, 4))]++;
+    }
+    for (int count : counts) {
+      assertThat(count, allOf(greaterThan(800), lessThan(1200)));
+    }
+  }
+
+  @Test
+  public void randomSize_WithEmptyRange_ThrowsIllegalArgumentException() {
+    try {
+      randomSize(Range.closedOpen(2, 2));
+      fail("Should have thrown an IllegalArgumentException");
+    } catch (IllegalArgumentException ex) {
+      assertThat(ex.getMessage(), is("Size range must not be empty"));
+    }
+  }
+
+  @Test
+  public void randomSize_WithMinAndMaxSize_ReturnsSizeBetweenBothInclusive() {
+    for (int i = 0; i < 1000; i++) {
+      assertThat(randomSize(3, 5), allOf(greaterThanOrEqualTo(3), lessThanOrEqualTo(5)));
+    }
+    assertThat(randomSize(Integer.MAX_VALUE, Integer.MAX_VALUE), is(Integer.MAX_VALUE));
+  }
+
+  @Test
+  public void randomSize_WithNegativeMinSize_ThrowsIllegalArgumentException() {
+    try {
+      randomSize(-1, 5);
+      fail("Should have thrown an IllegalArgumentException");
+    } catch (IllegalArgumentException ex) {
+      assertThat(ex.getMessage(), is("Size range must consist of only positive integers"));
+    }
+  }
+
+  @Test
+  public void randomSize_WithMaxSizeLessThanMinSize_ThrowsIllegalArgumentException() {
+    try {
+      randomSize(5, 4);
+      fail("Should have thrown an IllegalArgumentException");
+    } catch (IllegalArgumentException ex) {
+      assertThat(ex.getMessage(), is("Max size must be greater than or equal to min size"));
+    }
+  }
+}
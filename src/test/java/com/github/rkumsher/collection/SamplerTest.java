@@ -0,0 +1,86 @@
+package com.github.rkumsher.collection;
+
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.isIn;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.google.common.collect.ImmutableSet;
+
+public class SamplerTest {
+
+  private final List<String> elements = Arrays.asList("a", "b", "c", "d");
+  private final Sampler<String> sampler = IterableUtils.sampler(elements);
+
+  @Test
+  public void size_ReturnsNumberOfElementsInPool() {
+    assertThat(sampler.size(), is(4));
+  }
+
+  @Test
+  public void next_ReturnsElementsWithEqualProbability() {
+    int[] counts = new int[4];
+    for (int i = 0; i < 40_000; i++) {
+      counts[elements.indexOf(sampler.next())]++;
+    }
+    for (int count : counts) {
+      assertThat(count, allOf(greaterThan(9_000), lessThan(11_000)));
+    }
+  }
+
+  @Test
+  public void next_WithCount_ReturnsListOfElementsFromPool() {
+    List<String> sample = sampler.next(100);
+    assertThat(sample, hasSize(100));
+    assertThat(sample, everyItem(isIn(elements)));
+  }
+
+  @Test
+  public void next_WithNegativeCount_ThrowsIllegalArgumentException() {
+    try {
+      sampler.next(-1);
+      fail("Should have thrown an IllegalArgumentException");
+    } catch (IllegalArgumentException ex) {
+      assertThat(ex.getMessage(), is("Size must be greater than or equal to zero"));
+    }
+  }
+
+  @Test
+  public void nextExcluding_ReturnsElementNotInExcludes() {
+    for (int i = 0; i < 100; i++) {
+      assertThat(sampler.nextExcluding("a", "b", "c"), is("d"));
+    }
+  }
+
+  @Test
+  public void nextExcluding_WithExcludeSet_ReturnsElementNotInExcludes() {
+    for (int i = 0; i < 100; i++) {
+      assertThat(sampler.nextExcluding(ImmutableSet.of("b", "c", "d")), is("a"));
+    }
+  }
+
+  @Test
+  public void nextExcluding_WithNoExcludes_ReturnsElementFromPool() {
+    assertThat(sampler.nextExcluding(Collections.emptyList()), isIn(elements));
+  }
+
+  @Test
+  public void nextExcluding_WhenPoolOnlyContainsExcludes_ThrowsIllegalArgumentException() {
+    try {
+      sampler.nextExcluding("a", "b", "c", "d");
+      fail("Should have thrown an IllegalArgumentException");
+    } catch (IllegalArgumentException ex) {
+      assertThat(ex.getMessage(), is("Sampler only consists of the given excludes"));
+    }
+  }
+}
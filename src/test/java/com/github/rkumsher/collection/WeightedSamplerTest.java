@@ -0,0 +1,155 @@
+package com.github.rkumsher.collection;
+
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.google.common.collect.ImmutableMap;
+
+public class WeightedSamplerTest {
+
+  @Test
+  public void next_ReturnsElementsProportionallyToTheirWeights() {
+    WeightedSampler<String> sampler =
+        WeightedSampler.of(ImmutableMap.of("read", 70, "write", 25, "delete", 5));
+    int reads = 0;
+    int writes = 0;
+    int deletes = 0;
+    for (int i = 0; i < 100_000; i++) {
+      String operation = sampler.next();
+      if (operation.equals("read")) {
+        reads++;
+      } else if (operation.equals("write")) {
+        writes++;
+      } else {
+        deletes++;
+      }
+    }
+    assertThat(reads, allOf(greaterThan(69_000), lessThan(71_000)));
+    assertThat(writes, allOf(greaterThan(24_000), lessThan(26_000)));
+    assertThat(deletes, allOf(greaterThan(4_500), lessThan(5_500)));
+  }
+
+  @Test
+  public void next_NeverReturnsElementsWithoutWeight() {
+    WeightedSampler<String> sampler =
+        WeightedSampler.of(new String[] {"a", "b", "c", "d"}, new double[] {0, 1e-300, 0, 3});
+    for (int i = 0; i < 10_000; i++) {
+      assertThat(sampler.next(), allOf(greaterThan("a"), lessThan("e")));
+      assertThat(sampler.next().equals("c"), is(false));
+    }
+  }
+
+  @Test
+  public void nextIndex_WithZeroWeights_ReturnsIndexesProportionallyToTheirWeights() {
+    WeightedSampler<Integer> sampler = WeightedSampler.of(new double[] {1, 0, 1, 0, 0, 2});
+    int[] counts = new int[6];
+    for (int i = 0; i < 100_000; i++) {
+      counts[sampler.nextIndex()]++;
+    }
+    assertThat(counts[0], allOf(greaterThan(24_000), lessThan(26_000)));
+    assertThat(counts[2], allOf(greaterThan(24_000), lessThan(26_000)));
+    assertThat(counts[5], allOf(greaterThan(49_000), lessThan(51_000)));
+    assertThat(counts[1] + counts[3] + counts[4], is(0));
+  }
+
+  @Test
+  public void nextIndex_WithPrimitiveWeights_ReturnsIndexesProportionallyToTheirWeights() {
+    double[] weights = new double[1000];
+    Arrays.fill(weights, 1);
+    weights[0] = 1000;
+    WeightedSampler<Integer> sampler = WeightedSampler.of(weights);
+    assertThat(sampler.size(), is(1000));
+    int zeros = 0;
+    for (int i = 0; i < 100_000; i++) {
+      if (sampler.nextIndex() == 0) {
+        zeros++;
+      }
+    }
+    assertThat(zeros, allOf(greaterThan(49_000), lessThan(51_000)));
+    assertThat(sampler.next(), allOf(greaterThan(-1), lessThan(1000)));
+  }
+
+  @Test
+  public void next_WithHugeWeights_ReturnsElementsProportionallyToTheirWeights() {
+    WeightedSampler<String> sampler =
+        WeightedSampler.of(
+            Arrays.asList("a", "b"), new double[] {Double.MAX_VALUE, Double.MAX_VALUE});
+    int as = 0;
+    for (int i = 0; i < 10_000; i++) {
+      if (sampler.next().equals("a")) {
+        as++;
+      }
+    }
+    assertThat(as, allOf(greaterThan(4_500), lessThan(5_500)));
+  }
+
+  @Test
+  public void of_WithNoWeights_ThrowsIllegalArgumentException() {
+    try {
+      WeightedSampler.of(Collections.<String, Integer>emptyMap());
+      fail("Should have thrown an IllegalArgumentException");
+    } catch (IllegalArgumentException ex) {
+      assertThat(ex.getMessage(), is("Weights must not be empty"));
+    }
+  }
+
+  @Test
+  public void of_WithDifferentNumberOfElementsAndWeights_ThrowsIllegalArgumentException() {
+    try {
+      WeightedSampler.of(Arrays.asList("a", "b"), new double[] {1});
+      fail("Should have thrown an IllegalArgumentException");
+    } catch (IllegalArgumentException ex) {
+      assertThat(ex.getMessage(), is("Elements and weights must be of the same size"));
+    }
+  }
+
+  @Test
+  public void of_WithNegativeWeight_ThrowsIllegalArgumentException() {
+    try {
+      WeightedSampler.of(new double[] {1, -1});
+      fail("Should have thrown an IllegalArgumentException");
+    } catch (IllegalArgumentException ex) {
+      assertThat(ex.getMessage(), is("Weights must be non-negative and finite"));
+    }
+  }
+
+  @Test
+  public void of_WithNaNWeight_ThrowsIllegalArgumentException() {
+    try {
+      WeightedSampler.of(new double[] {1, Double.NaN});
+      fail("Should have thrown an IllegalArgumentException");
+    } catch (IllegalArgumentException ex) {
+      assertThat(ex.getMessage(), is("Weights must be non-negative and finite"));
+    }
+  }
+
+  @Test
+  public void of_WithAllWeightsZero_ThrowsIllegalArgumentException() {
+    try {
+      WeightedSampler.of(new double[] {0, 0});
+      fail("Should have thrown an IllegalArgumentException");
+    } catch (IllegalArgumentException ex) {
+      assertThat(ex.getMessage(), is("Weights must not all be zero"));
+    }
+  }
+
+  @Test
+  public void of_WithNullWeight_ThrowsIllegalArgumentException() {
+    Map<String, Integer> weights = Collections.singletonMap("a", null);
+    try {
+      WeightedSampler.of(weights);
+      fail("Should have thrown an IllegalArgumentException");
+    } catch (IllegalArgumentException ex) {
+      assertThat(ex.getMessage(), is("Weights must be non-null"));
+    }
+  }
+}
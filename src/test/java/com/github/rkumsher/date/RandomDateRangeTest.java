@@ -0,0 +1,108 @@
+package com.github.rkumsher.date;
+
+import static com.github.rkumsher.date.RandomDateUtils.instantRange;
+import static com.github.rkumsher.date.RandomDateUtils.localDateRange;
+import static com.github.rkumsher.date.RandomDateUtils.localDateTimeRange;
+import static com.github.rkumsher.date.RandomDateUtils.localTimeRange;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import com.github.rkumsher.random.RandomScope;
+import com.github.rkumsher.random.RandomSources;
+
+public class RandomDateRangeTest {
+
+  @Test
+  public void next_ReturnsInstantsWithinRange() {
+    Instant start = Instant.ofEpochMilli(1_000);
+    Instant end = Instant.ofEpochMilli(1_005);
+    RandomDateRange<Instant> range = instantRange(start, end);
+    Set<Instant> instants = new HashSet<>();
+    for (int i = 0; i < 1_000; i++) {
+      instants.add(range.next());
+    }
+    assertThat(
+        instants,
+        containsInAnyOrder(
+            start,
+            start.plusMillis(1),
+            start.plusMillis(2),
+            start.plusMillis(3),
+            start.plusMillis(4)));
+  }
+
+  @Test
+  public void next_WithEqualBounds_ReturnsStart() {
+    LocalDate date = LocalDate.of(2020, 2, 29);
+    assertThat(localDateRange(date, date).next(), is(date));
+  }
+
+  @Test
+  public void next_ReturnsLocalDatesWithinRange() {
+    LocalDate start = LocalDate.of(2020, 2, 28);
+    LocalDate end = LocalDate.of(2020, 3, 1);
+    List<LocalDate> dates = localDateRange(start, end).next(100);
+    assertThat(dates, hasSize(100));
+    assertThat(new HashSet<>(dates), containsInAnyOrder(start, start.plusDays(1)));
+  }
+
+  @Test
+  public void next_ReturnsLocalDateTimesWithinRange() {
+    LocalDateTime start = LocalDateTime.of(2020, 1, 1, 0, 0);
+    LocalDateTime end = start.plusSeconds(1);
+    RandomDateRange<LocalDateTime> range = localDateTimeRange(start, end);
+    for (int i = 0; i < 1_000; i++) {
+      LocalDateTime localDateTime = range.next();
+      assertTrue(!localDateTime.isBefore(start) && localDateTime.isBefore(end));
+    }
+  }
+
+  @Test
+  public void next_ReturnsLocalTimesWithinRange() {
+    LocalTime start = LocalTime.of(9, 0);
+    LocalTime end = LocalTime.of(9, 0, 0, 3);
+    List<LocalTime> times = localTimeRange(start, end).next(100);
+    assertThat(
+        new HashSet<>(times), containsInAnyOrder(start, start.plusNanos(1), start.plusNanos(2)));
+  }
+
+  @Test
+  public void next_WithSeededSource_IsReproducible() {
+    RandomDateRange<Instant> range = instantRange(RandomDateUtils.MIN_INSTANT, Instant.now());
+    List<Instant> first =
+        RandomScope.of(RandomSources.splittableRandom(42)).get(() -> range.next(10));
+    List<Instant> second =
+        RandomScope.of(RandomSources.splittableRandom(42)).get(() -> range.next(10));
+    assertThat(first, is(second));
+  }
+
+  @Test
+  public void next_WithZeroCount_ReturnsEmptyList() {
+    assertThat(
+        localDateRange(LocalDate.of(2020, 1, 1), LocalDate.of(2021, 1, 1)).next(0),
+        is(empty()));
+  }
+
+  @Test
+  public void next_WithNegativeCount_ThrowsIllegalArgumentException() {
+    try {
+      instantRange(Instant.ofEpochMilli(0), Instant.ofEpochMilli(1)).next(-1);
+      fail("Should have thrown an IllegalArgumentException");
+    } catch (IllegalArgumentException ex) {
+      assertThat(ex.getMessage(), is("Size must be greater than or equal to zero"));
+    }
+  }
+}
@@ -3,6 +3,14 @@ package com.github.rkumsher.date;
 import static com.github.rkumsher.date.DateUtils.LEAP_DAY;
 import static com.github.rkumsher.date.RandomDateUtils.MAX_INSTANT;
 import static com.github.rkumsher.date.RandomDateUtils.MIN_INSTANT;
+import static com.github.rkumsher.date.RandomDateUtils.instantRange;
+import static com.github.rkumsher.date.RandomDateUtils.localDateRange;
+import static com.github.rkumsher.date.RandomDateUtils.localDateTimeRange;
+import static com.github.rkumsher.date.RandomDateUtils.localTimeRange;
+import static com.github.rkumsher.date.RandomDateUtils.parallelRandomEpochMillis;
+import static com.github.rkumsher.date.RandomDateUtils.parallelRandomInstants;
+import static com.github.rkumsher.date.RandomDateUtils.parallelRandomLocalDateTimes;
+import static com.github.rkumsher.date.RandomDateUtils.parallelRandomLocalDates;
 import static com.github.rkumsher.date.RandomDateUtils.random;
 import static com.github.rkumsher.date.RandomDateUtils.randomAfter;
 import static com.github.rkumsher.date.RandomDateUtils.randomBefore;
@@ -11,6 +19,7 @@ import static com.github.rkumsher.date.RandomDateUtils.randomDateAfter;
 import static com.github.rkumsher.date.RandomDateUtils.randomDateBefore;
 import static com.github.rkumsher.date.RandomDateUtils.randomDayOfWeek;
 import static com.github.rkumsher.date.RandomDateUtils.randomDuration;
+import static com.github.rkumsher.date.RandomDateUtils.randomEpochMillis;
 import static com.github.rkumsher.date.RandomDateUtils.randomFixedClock;
 import static com.github.rkumsher.date.RandomDateUtils.randomFixedUtcClock;
 import static com.github.rkumsher.date.RandomDateUtils.randomFutureDate;
@@ -24,12 +33,15 @@ import static com.github.rkumsher.date.RandomDateUtils.randomFutureZonedDateTime
 import static com.github.rkumsher.date.RandomDateUtils.randomInstant;
 import static com.github.rkumsher.date.RandomDateUtils.randomInstantAfter;
 import static com.github.rkumsher.date.RandomDateUtils.randomInstantBefore;
+import static com.github.rkumsher.date.RandomDateUtils.randomInstants;
 import static com.github.rkumsher.date.RandomDateUtils.randomLocalDate;
 import static com.github.rkumsher.date.RandomDateUtils.randomLocalDateAfter;
 import static com.github.rkumsher.date.RandomDateUtils.randomLocalDateBefore;
 import static com.github.rkumsher.date.RandomDateUtils.randomLocalDateTime;
 import static com.github.rkumsher.date.RandomDateUtils.randomLocalDateTimeAfter;
 import static com.github.rkumsher.date.RandomDateUtils.randomLocalDateTimeBefore;
+import static com.github.rkumsher.date.RandomDateUtils.randomLocalDateTimes;
+import static com.github.rkumsher.date.RandomDateUtils.randomLocalDates;
 import static com.github.rkumsher.date.RandomDateUtils.randomLocalTime;
 import static com.github.rkumsher.date.RandomDateUtils.randomLocalTimeAfter;
 import static com.github.rkumsher.date.RandomDateUtils.randomLocalTimeBefore;
@@ -69,15 +81,21 @@ import static java.time.Month.JANUARY;
 import static java.time.temporal.ChronoField.SECOND_OF_MINUTE;
 import static java.time.temporal.ChronoUnit.DAYS;
 import static java.time.temporal.ChronoUnit.HOURS;
+import static java.time.temporal.ChronoUnit.MICROS;
 import static java.time.temporal.ChronoUnit.MILLIS;
 import static java.time.temporal.ChronoUnit.MONTHS;
 import static java.time.temporal.ChronoUnit.NANOS;
+import static java.time.temporal.ChronoUnit.SECONDS;
 import static java.time.temporal.ChronoUnit.YEARS;
 import static org.apache.commons.lang3.time.DateUtils.addDays;
 import static org.apache.commons.lang3.time.DateUtils.addMilliseconds;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.isIn;
 import static org.hamcrest.Matchers.isOneOf;
+import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.junit.Assert.*;
@@ -98,11 +116,19 @@ import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoField;
 import java.time.temporal.TemporalField;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.LongStream;
 
 import org.junit.Test;
 
 import com.github.rkumsher.enums.RandomEnumUtils;
+import com.github.rkumsher.random.ParallelRandom;
+import com.github.rkumsher.random.RandomScope;
+import com.github.rkumsher.random.RandomSources;
+import com.google.common.collect.Sets;
 
 public class RandomDateUtilsTest {
 
@@ -574,12 +600,28 @@ public class RandomDateUtilsTest {
     }
   }
 
+  @Test
+  public void randomLocalDate_WithStartBeforeMin_ThrowsIllegalArgumentException() {
+    try {
+      randomLocalDate(MIN_LOCAL_DATE.minus(1, DAYS), MAX_LOCAL_DATE);
+      fail("Should have thrown an IllegalArgumentException");
+    } catch (IllegalArgumentException ex) {
+      assertThat(ex.getMessage(), is("Start must be on or after " + MIN_INSTANT));
+    }
+  }
+
   @Test
   public void randomLocalDateAfter_ReturnsLocalDateAfterGiven() {
     LocalDate after = LocalDate.now(CLOCK);
     assertThat(randomLocalDateAfter(after).isAfter(after), is(true));
   }
 
+  @Test
+  public void randomLocalDateAfter_WithTwoDaysBeforeMaxLocalDate_ReturnsDayBeforeMax() {
+    LocalDate after = MAX_LOCAL_DATE.minus(2, DAYS);
+    assertThat(randomLocalDateAfter(after), is(MAX_LOCAL_DATE.minus(1, DAYS)));
+  }
+
   @Test
   public void randomLocalDateAfter_WithMaxLocalDate_ThrowsIllegalArgumentException() {
     try {
@@ -794,6 +836,87 @@ public class RandomDateUtilsTest {
     assertThat(randomInstant(instant, instant), is(instant));
   }
 
+  @Test
+  public void randomInstant_WithNanosPrecision_ReturnsInstantBetweenMinAndMax() {
+    for (int i = 0; i < 1_000; i++) {
+      Instant instant = randomInstant(Instant.MIN, Instant.MAX, NANOS);
+      assertTrue(!instant.isBefore(Instant.MIN) && instant.isBefore(Instant.MAX));
+    }
+  }
+
+  @Test
+  public void randomInstant_WithSecondsPrecision_SpreadsInstantsOverWholeRange() {
+    int beforeEpoch = 0;
+    for (int i = 0; i < 10_000; i++) {
+      Instant instant = randomInstant(Instant.MIN, Instant.MAX, SECONDS);
+      assertThat(instant.getNano(), is(0));
+      if (instant.isBefore(Instant.EPOCH)) {
+        beforeEpoch++;
+      }
+    }
+    assertThat(beforeEpoch, allOf(greaterThan(4_700), lessThan(5_300)));
+  }
+
+  @Test
+  public void randomInstant_WithMillisPrecision_ReturnsWholeMillisBetweenGivenInstants() {
+    Instant start = Instant.ofEpochSecond(-1, 999_500_000);
+    Instant end = Instant.ofEpochSecond(0, 1_500_000);
+    Set<Instant> instants = new HashSet<>();
+    for (int i = 0; i < 1_000; i++) {
+      instants.add(randomInstant(start, end, MILLIS));
+    }
+    assertThat(instants, containsInAnyOrder(Instant.EPOCH, Instant.ofEpochMilli(1)));
+  }
+
+  @Test
+  public void randomInstant_WithMicrosPrecisionAcrossSecond_ReturnsEveryMicroInRange() {
+    Instant start = Instant.ofEpochSecond(10, 999_999_000);
+    Instant end = Instant.ofEpochSecond(11, 1_001);
+    Set<Instant> instants = new HashSet<>();
+    for (int i = 0; i < 1_000; i++) {
+      instants.add(randomInstant(start, end, MICROS));
+    }
+    assertThat(
+        instants,
+        containsInAnyOrder(start, Instant.ofEpochSecond(11), Instant.ofEpochSecond(11, 1_000)));
+  }
+
+  @Test
+  public void randomInstant_WithPrecisionAndEqualInstants_ReturnsStart() {
+    Instant instant = Instant.ofEpochSecond(0, 123);
+    assertThat(randomInstant(instant, instant, SECONDS), is(instant));
+  }
+
+  @Test
+  public void randomInstant_WithNoInstantOfPrecisionInRange_ThrowsIllegalArgumentException() {
+    try {
+      randomInstant(Instant.ofEpochSecond(0, 1), Instant.ofEpochSecond(0, 2), MICROS);
+      fail("Should have thrown an IllegalArgumentException");
+    } catch (IllegalArgumentException ex) {
+      assertThat(ex.getMessage(), is("Range must include an instant of Micros"));
+    }
+  }
+
+  @Test
+  public void randomInstant_WithUnsupportedPrecision_ThrowsIllegalArgumentException() {
+    try {
+      randomInstant(Instant.MIN, Instant.MAX, DAYS);
+      fail("Should have thrown an IllegalArgumentException");
+    } catch (IllegalArgumentException ex) {
+      assertThat(ex.getMessage(), is("Precision must be one of NANOS, MICROS, MILLIS or SECONDS"));
+    }
+  }
+
+  @Test
+  public void randomInstant_WithNullPrecision_ThrowsIllegalArgumentException() {
+    try {
+      randomInstant(Instant.MIN, Instant.MAX, null);
+      fail("Should have thrown an IllegalArgumentException");
+    } catch (IllegalArgumentException ex) {
+      assertThat(ex.getMessage(), is("Precision must be non-null"));
+    }
+  }
+
   @Test
   public void randomInstant_WithNullEndInstant_ThrowsIllegalArgumentException() {
     try {
@@ -978,6 +1101,11 @@ public class RandomDateUtilsTest {
     assertThat(randomLocalTimeAfter(after).isAfter(after), is(true));
   }
 
+  @Test
+  public void randomLocalTimeAfter_WithNanoBeforeMaxLocalTime_ReturnsMaxLocalTime() {
+    assertThat(randomLocalTimeAfter(LocalTime.MAX.minusNanos(1)), is(LocalTime.MAX));
+  }
+
   @Test
   public void randomLocalTimeAfter_WithMaxLocalTime_ThrowsIllegalArgumentException() {
     try {
@@ -1348,12 +1476,27 @@ public class RandomDateUtilsTest {
     }
   }
 
+  @Test
+  public void randomYearMonth_WithStartBeforeMin_ThrowsIllegalArgumentException() {
+    try {
+      randomYearMonth(MIN_YEAR_MONTH.minusMonths(1), MAX_YEAR_MONTH);
+      fail("Should have thrown an IllegalArgumentException");
+    } catch (IllegalArgumentException ex) {
+      assertThat(ex.getMessage(), is("Start must be on or after " + MIN_INSTANT));
+    }
+  }
+
   @Test
   public void randomYearMonthAfter_ReturnsYearMonthAfterGiven() {
     YearMonth after = YearMonth.now(CLOCK);
     assertThat(randomYearMonthAfter(after).isAfter(after), is(true));
   }
 
+  @Test
+  public void randomYearMonthAfter_WithMonthBeforeMaxYearMonth_ReturnsMaxYearMonth() {
+    assertThat(randomYearMonthAfter(MAX_YEAR_MONTH.minusMonths(1)), is(MAX_YEAR_MONTH));
+  }
+
   @Test
   public void randomYearMonthAfter_WithMaxYearMonth_ThrowsIllegalArgumentException() {
     try {
@@ -1680,4 +1823,156 @@ public class RandomDateUtilsTest {
   public void randomNegativeDuration_ReturnsDurationWhichIsNotZero() {
     assertThat(randomNegativeDuration().isZero(), is(false));
   }
+
+  @Test
+  public void randomEpochMillis_FillsArrayWithEpochMillisBetweenGivenInstants() {
+    Instant start = Instant.ofEpochMilli(1_000);
+    Instant end = Instant.ofEpochMilli(1_010);
+    long[] epochMillis = randomEpochMillis(1_000, start, end);
+    assertThat(epochMillis.length, is(1_000));
+    assertThat(LongStream.of(epochMillis).min().getAsLong(), is(1_000L));
+    assertThat(LongStream.of(epochMillis).max().getAsLong(), is(1_009L));
+  }
+
+  @Test
+  public void randomEpochMillis_WithEqualInstants_FillsArrayWithStart() {
+    long[] epochMillis = new long[3];
+    randomEpochMillis(epochMillis, Instant.ofEpochMilli(5), Instant.ofEpochMilli(5));
+    assertThat(epochMillis, is(new long[] {5, 5, 5}));
+  }
+
+  @Test
+  public void randomEpochMillis_WithStartAfterEndInstant_ThrowsIllegalArgumentException() {
+    try {
+      randomEpochMillis(new long[1], Instant.ofEpochMilli(2), Instant.ofEpochMilli(1));
+      fail("Should have thrown an IllegalArgumentException");
+    } catch (IllegalArgumentException ex) {
+      assertThat(ex.getMessage(), is("End must be on or after start"));
+    }
+  }
+
+  @Test
+  public void parallelRandomEpochMillis_WithSeededSource_IsReproducible() {
+    long[] first = new long[ParallelRandom.BLOCK_SIZE * 3 + 1];
+    long[] second = new long[first.length];
+    RandomScope.of(RandomSources.splittableRandom(42))
+        .run(() -> parallelRandomEpochMillis(first, MIN_INSTANT, MAX_INSTANT));
+    RandomScope.of(RandomSources.splittableRandom(42))
+        .run(() -> parallelRandomEpochMillis(second, MIN_INSTANT, MAX_INSTANT));
+    assertThat(first, is(second));
+    assertThat(LongStream.of(first).min().getAsLong() >= 0, is(true));
+    assertThat(LongStream.of(first).max().getAsLong() < MAX_INSTANT.toEpochMilli(), is(true));
+  }
+
+  @Test
+  public void randomInstants_ReturnsInstantsBetweenGivenInstants() {
+    Instant start = Instant.ofEpochMilli(1_000);
+    Instant end = Instant.ofEpochMilli(2_000);
+    for (Instant[] instants :
+        Arrays.asList(
+            randomInstants(1_000, start, end),
+            parallelRandomInstants(ParallelRandom.BLOCK_SIZE + 1, start, end))) {
+      for (Instant instant : instants) {
+        assertTrue(!instant.isBefore(start) && instant.isBefore(end));
+      }
+    }
+  }
+
+  @Test
+  public void randomInstants_WithNegativeSize_ThrowsIllegalArgumentException() {
+    try {
+      randomInstants(-1, MIN_INSTANT, MAX_INSTANT);
+      fail("Should have thrown an IllegalArgumentException");
+    } catch (IllegalArgumentException ex) {
+      assertThat(ex.getMessage(), is("Size must be greater than or equal to zero"));
+    }
+  }
+
+  @Test
+  public void randomLocalDates_ReturnsEveryDateBetweenGivenLocalDates() {
+    LocalDate start = LocalDate.of(2020, 2, 27);
+    LocalDate end = LocalDate.of(2020, 3, 2);
+    Set<LocalDate> dates = Sets.newHashSet(randomLocalDates(1_000, start, end));
+    assertThat(
+        dates, containsInAnyOrder(start, start.plusDays(1), start.plusDays(2), end.minusDays(1)));
+    assertThat(
+        parallelRandomLocalDates(3, start, start), is(new LocalDate[] {start, start, start}));
+  }
+
+  @Test
+  public void randomLocalDates_WithNullStartLocalDate_ThrowsIllegalArgumentException() {
+    try {
+      randomLocalDates(1, null, LocalDate.now(CLOCK));
+      fail("Should have thrown an IllegalArgumentException");
+    } catch (IllegalArgumentException ex) {
+      assertThat(ex.getMessage(), is("Start must be non-null"));
+    }
+  }
+
+  @Test
+  public void randomLocalDateTimes_ReturnsLocalDateTimesBetweenGivenLocalDateTimes() {
+    LocalDateTime start = LocalDateTime.of(2020, 1, 1, 0, 0);
+    LocalDateTime end = start.plusSeconds(1);
+    for (LocalDateTime[] localDateTimes :
+        Arrays.asList(
+            randomLocalDateTimes(1_000, start, end),
+            parallelRandomLocalDateTimes(ParallelRandom.BLOCK_SIZE + 1, start, end))) {
+      for (LocalDateTime localDateTime : localDateTimes) {
+        assertTrue(!localDateTime.isBefore(start) && localDateTime.isBefore(end));
+        assertThat(localDateTime.getNano() % 1_000_000, is(0));
+      }
+    }
+  }
+
+  @Test
+  public void randomLocalDateTimes_WithEndAfterMax_ThrowsIllegalArgumentException() {
+    LocalDateTime end = LocalDateTime.ofInstant(MAX_INSTANT, ZoneOffset.UTC).plusDays(1);
+    try {
+      randomLocalDateTimes(1, LocalDateTime.of(2020, 1, 1, 0, 0), end);
+      fail("Should have thrown an IllegalArgumentException");
+    } catch (IllegalArgumentException ex) {
+      assertThat(ex.getMessage(), is("End must be on or before " + MAX_INSTANT));
+    }
+  }
+
+  @Test
+  public void instantRange_WithStartAfterEnd_ThrowsIllegalArgumentException() {
+    try {
+      instantRange(Instant.ofEpochMilli(2), Instant.ofEpochMilli(1));
+      fail("Should have thrown an IllegalArgumentException");
+    } catch (IllegalArgumentException ex) {
+      assertThat(ex.getMessage(), is("End must be on or after start"));
+    }
+  }
+
+  @Test
+  public void localDateRange_WithNullEnd_ThrowsIllegalArgumentException() {
+    try {
+      localDateRange(LocalDate.now(CLOCK), null);
+      fail("Should have thrown an IllegalArgumentException");
+    } catch (IllegalArgumentException ex) {
+      assertThat(ex.getMessage(), is("End must be non-null"));
+    }
+  }
+
+  @Test
+  public void localDateTimeRange_WithStartBeforeMin_ThrowsIllegalArgumentException() {
+    LocalDateTime start = LocalDateTime.ofInstant(MIN_INSTANT, ZoneOffset.UTC).minusDays(1);
+    try {
+      localDateTimeRange(start, LocalDateTime.now(CLOCK));
+      fail("Should have thrown an IllegalArgumentException");
+    } catch (IllegalArgumentException ex) {
+      assertThat(ex.getMessage(), is("Start must be on or after " + MIN_INSTANT));
+    }
+  }
+
+  @Test
+  public void localTimeRange_WithStartAfterEnd_ThrowsIllegalArgumentException() {
+    try {
+      localTimeRange(LocalTime.NOON, LocalTime.MIDNIGHT);
+      fail("Should have thrown an IllegalArgumentException");
+    } catch (IllegalArgumentException ex) {
+      assertThat(ex.getMessage(), is("End must be on or after start"));
+    }
+  }
 }
@@ -10,6 +10,8 @@ import java.util.EnumSet;
 
 import org.junit.Test;
 
+import com.github.rkumsher.collection.Sampler;
+
 public class RandomEnumUtilsTest {
 
   private enum EmptyEnum {}
@@ -66,4 +68,23 @@ public class RandomEnumUtilsTest {
       assertThat(ex.getMessage(), is("Iterable only consists of the given excludes"));
     }
   }
+
+  @Test
+  public void sampler_ReturnsSamplerOfGivenEnumClass() {
+    Sampler<EnumWithTwoElements> sampler = RandomEnumUtils.sampler(EnumWithTwoElements.class);
+    assertThat(sampler.size(), is(2));
+    assertThat(
+        sampler.nextExcluding(EnumWithTwoElements.FIRST_ELEMENT),
+        is(EnumWithTwoElements.SECOND_ELEMENT));
+  }
+
+  @Test
+  public void sampler_WithEmptyEnum_ThrowsIllegalArgumentException() {
+    try {
+      RandomEnumUtils.sampler(EmptyEnum.class);
+      fail("Should have thrown an IllegalArgumentException");
+    } catch (IllegalArgumentException ex) {
+      assertThat(ex.getMessage(), is("Iterable cannot be empty"));
+    }
+  }
 }
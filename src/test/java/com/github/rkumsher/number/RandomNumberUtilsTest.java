@@ -1,14 +1,21 @@
 package com.github.rkumsher.number;
 
+import static com.github.rkumsher.number.RandomNumberUtils.fill;
+import static com.github.rkumsher.number.RandomNumberUtils.fillInts;
+import static com.github.rkumsher.number.RandomNumberUtils.fillLongs;
+import static com.github.rkumsher.number.RandomNumberUtils.parallelFill;
 import static com.github.rkumsher.number.RandomNumberUtils.randomDouble;
+import static com.github.rkumsher.number.RandomNumberUtils.randomDoubles;
 import static com.github.rkumsher.number.RandomNumberUtils.randomDoubleGreaterThan;
 import static com.github.rkumsher.number.RandomNumberUtils.randomDoubleLessThan;
 import static com.github.rkumsher.number.RandomNumberUtils.randomInt;
 import static com.github.rkumsher.number.RandomNumberUtils.randomIntGreaterThan;
 import static com.github.rkumsher.number.RandomNumberUtils.randomIntLessThan;
+import static com.github.rkumsher.number.RandomNumberUtils.randomInts;
 import static com.github.rkumsher.number.RandomNumberUtils.randomLong;
 import static com.github.rkumsher.number.RandomNumberUtils.randomLongGreaterThan;
 import static com.github.rkumsher.number.RandomNumberUtils.randomLongLessThan;
+import static com.github.rkumsher.number.RandomNumberUtils.randomLongs;
 import static com.github.rkumsher.number.RandomNumberUtils.randomNegativeDouble;
 import static com.github.rkumsher.number.RandomNumberUtils.randomNegativeInt;
 import static com.github.rkumsher.number.RandomNumberUtils.randomNegativeLong;
@@ -16,6 +23,7 @@ import static com.github.rkumsher.number.RandomNumberUtils.randomPositiveDouble;
 import static com.github.rkumsher.number.RandomNumberUtils.randomPositiveInt;
 import static com.github.rkumsher.number.RandomNumberUtils.randomPositiveLong;
 import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.is;
@@ -23,8 +31,22 @@ import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.junit.Assert.*;
 
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
 import org.junit.Test;
 
+import com.github.rkumsher.random.ParallelRandom;
+import com.github.rkumsher.random.RandomScope;
+import com.github.rkumsher.random.RandomSources;
+
 public class RandomNumberUtilsTest {
 
   @Test
@@ -178,6 +200,19 @@ public class RandomNumberUtilsTest {
         allOf(greaterThanOrEqualTo(-Double.MAX_VALUE), lessThanOrEqualTo(Double.MAX_VALUE)));
   }
 
+  @Test
+  public void randomDouble_ReturnsFiniteDoublesOfBothSigns() {
+    boolean negative = false;
+    boolean positive = false;
+    for (int i = 0; i < 100; i++) {
+      double randomDouble = randomDouble();
+      assertTrue(Double.isFinite(randomDouble));
+      negative |= randomDouble < 0;
+      positive |= randomDouble > 0;
+    }
+    assertTrue(negative && positive);
+  }
+
   @Test
   public void randomPositiveDouble_ReturnsDoubleGreaterThanZero() {
     assertThat(randomPositiveDouble(), greaterThan(0d));
@@ -242,4 +277,225 @@ public class RandomNumberUtilsTest {
       assertThat(e.getMessage(), is("Cannot produce double less than " + -Double.MAX_VALUE));
     }
   }
+
+  @Test
+  public void fill_FillsIntArrayWithIntsBetweenGivenInts() {
+    int[] array = new int[1000];
+    fill(array, -10, 10);
+    for (int value : array) {
+      assertThat(value, allOf(greaterThanOrEqualTo(-10), lessThan(10)));
+    }
+  }
+
+  @Test
+  public void fill_WithEqualInts_FillsIntArrayWithStart() {
+    int[] array = new int[10];
+    fill(array, 10, 10);
+    for (int value : array) {
+      assertThat(value, is(10));
+    }
+  }
+
+  @Test
+  public void fill_WithIntStartAfterEnd_ThrowsIllegalArgumentException() {
+    try {
+      fill(new int[10], 10, -10);
+      fail("Should have thrown an IllegalArgumentException");
+    } catch (IllegalArgumentException e) {
+      assertThat(e.getMessage(), is("End must be greater than or equal to start"));
+    }
+  }
+
+  @Test
+  public void fill_FillsLongArrayWithLongsBetweenGivenLongs() {
+    long[] array = new long[1000];
+    fill(array, Long.MIN_VALUE, Long.MIN_VALUE + 10);
+    for (long value : array) {
+      assertThat(value, allOf(greaterThanOrEqualTo(Long.MIN_VALUE), lessThan(Long.MIN_VALUE + 10)));
+    }
+  }
+
+  @Test
+  public void fill_FillsDoubleArrayWithDoublesBetweenGivenDoubles() {
+    double[] array = new double[1000];
+    fill(array, -10d, 10d);
+    for (double value : array) {
+      assertThat(value, allOf(greaterThanOrEqualTo(-10d), lessThan(10d)));
+    }
+  }
+
+  @Test
+  public void fill_FillsRemainingElementsOfIntBuffer() {
+    IntBuffer buffer = IntBuffer.allocate(100);
+    buffer.position(10);
+    fill(buffer, 1, 10);
+    assertThat(buffer.position(), is(10));
+    for (int i = 0; i < buffer.capacity(); i++) {
+      assertThat(buffer.get(i), i < 10 ? is(0) : allOf(greaterThanOrEqualTo(1), lessThan(10)));
+    }
+  }
+
+  @Test
+  public void fill_FillsRemainingElementsOfSlicedLongBuffer() {
+    LongBuffer buffer = LongBuffer.allocate(100);
+    buffer.position(10);
+    LongBuffer slice = buffer.slice();
+    fill(slice, 1, 10);
+    for (int i = 0; i < buffer.capacity(); i++) {
+      assertThat(buffer.get(i), i < 10 ? is(0L) : allOf(greaterThanOrEqualTo(1L), lessThan(10L)));
+    }
+  }
+
+  @Test
+  public void fillInts_FillsDirectByteBufferWithIntsBetweenGivenInts() {
+    ByteBuffer buffer = ByteBuffer.allocateDirect(400);
+    fillInts(buffer, -10, 10);
+    assertThat(buffer.position(), is(0));
+    while (buffer.hasRemaining()) {
+      assertThat(buffer.getInt(), allOf(greaterThanOrEqualTo(-10), lessThan(10)));
+    }
+  }
+
+  @Test
+  public void fillLongs_FillsDirectByteBufferWithLongsBetweenGivenLongs() {
+    ByteBuffer buffer = ByteBuffer.allocateDirect(800);
+    fillLongs(buffer, -10, 10);
+    while (buffer.hasRemaining()) {
+      assertThat(buffer.getLong(), allOf(greaterThanOrEqualTo(-10L), lessThan(10L)));
+    }
+  }
+
+  @Test
+  public void fillLongs_WithRemainingBytesNotMultipleOfLongBytes_ThrowsIllegalArgumentException() {
+    try {
+      fillLongs(ByteBuffer.allocateDirect(12), -10, 10);
+      fail("Should have thrown an IllegalArgumentException");
+    } catch (IllegalArgumentException e) {
+      assertThat(e.getMessage(), is("Remaining bytes must be a multiple of 8"));
+    }
+  }
+
+  @Test
+  public void parallelFill_FillsIntArrayWithIntsBetweenGivenInts() {
+    int[] array = new int[ParallelRandom.BLOCK_SIZE * 4 + 1];
+    parallelFill(array, -10, 10);
+    for (int value : array) {
+      assertThat(value, allOf(greaterThanOrEqualTo(-10), lessThan(10)));
+    }
+  }
+
+  @Test
+  public void parallelFill_WithSameSeed_FillsArraysWithSameValues() {
+    int[] first = new int[ParallelRandom.BLOCK_SIZE * 4 + 1];
+    int[] second = new int[first.length];
+    RandomScope.of(RandomSources.splittableRandom(42)).run(() -> parallelFill(first, 0, 100));
+    RandomScope.of(RandomSources.splittableRandom(42)).run(() -> parallelFill(second, 0, 100));
+    assertThat(first, equalTo(second));
+  }
+
+  @Test
+  public void parallelFill_FillsLongAndDoubleArraysWithValuesBetweenGivenValues() {
+    long[] longs = new long[ParallelRandom.BLOCK_SIZE * 2 + 1];
+    double[] doubles = new double[ParallelRandom.BLOCK_SIZE * 2 + 1];
+    parallelFill(longs, -10, 10);
+    parallelFill(doubles, -10d, 10d);
+    assertTrue(Arrays.stream(longs).allMatch(value -> value >= -10 && value < 10));
+    assertTrue(Arrays.stream(doubles).allMatch(value -> value >= -10 && value < 10));
+  }
+
+  @Test
+  public void randomInts_ReturnsStreamOfGivenSizeWithIntsBetweenGivenInts() {
+    int[] values = randomInts(5000, -10, 10).toArray();
+    assertThat(values.length, is(5000));
+    assertTrue(Arrays.stream(values).allMatch(value -> value >= -10 && value < 10));
+  }
+
+  @Test
+  public void randomInts_WithSameSeed_ReturnsSameValuesSequentiallyAndInParallel() {
+    int[] sequential =
+        RandomScope.of(RandomSources.splittableRandom(42))
+            .get(() -> randomInts(10_000, 0, 100).toArray());
+    int[] parallel =
+        RandomScope.of(RandomSources.splittableRandom(42))
+            .get(() -> randomInts(10_000, 0, 100).parallel().toArray());
+    assertThat(parallel, equalTo(sequential));
+  }
+
+  @Test
+  public void randomInts_ReturnsSizedSplittableStream() {
+    Spliterator.OfInt spliterator = randomInts(10_000, 0, 100).spliterator();
+    assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+    Spliterator.OfInt prefix = spliterator.trySplit();
+    assertNotNull(prefix);
+    assertThat(prefix.estimateSize() + spliterator.estimateSize(), is(10_000L));
+  }
+
+  @Test
+  public void randomInts_SplitAfterAdvancing_ReturnsSameValuesAsSequentialRun() {
+    int[] sequential =
+        RandomScope.of(RandomSources.splittableRandom(42))
+            .get(() -> randomInts(10_000, 0, 100).toArray());
+    Spliterator.OfInt spliterator =
+        RandomScope.of(RandomSources.splittableRandom(42))
+            .get(() -> randomInts(10_000, 0, 100).spliterator());
+    int[] values = new int[10_000];
+    int[] size = {0};
+    IntConsumer collect = value -> values[size[0]++] = value;
+    for (int i = 0; i < 10; i++) {
+      spliterator.tryAdvance(collect);
+    }
+    Spliterator.OfInt prefix = spliterator.trySplit();
+    assertNotNull(prefix);
+    prefix.forEachRemaining(collect);
+    spliterator.forEachRemaining(collect);
+    assertThat(values, equalTo(sequential));
+  }
+
+  @Test
+  public void randomInts_WithBoxingConsumer_ReturnsSameValuesAsIntConsumer() {
+    int[] sequential =
+        RandomScope.of(RandomSources.splittableRandom(42))
+            .get(() -> randomInts(10_000, 0, 100).toArray());
+    Spliterator.OfInt spliterator =
+        RandomScope.of(RandomSources.splittableRandom(42))
+            .get(() -> randomInts(10_000, 0, 100).spliterator());
+    List<Integer> values = new ArrayList<>();
+    spliterator.tryAdvance((Consumer<Integer>) values::add);
+    spliterator.forEachRemaining((Consumer<Integer>) values::add);
+    assertThat(values.stream().mapToInt(Integer::intValue).toArray(), equalTo(sequential));
+  }
+
+  @Test
+  public void randomInts_WithNegativeSize_ThrowsIllegalArgumentException() {
+    try {
+      randomInts(-1, 0, 100);
+      fail("Should have thrown an IllegalArgumentException");
+    } catch (IllegalArgumentException e) {
+      assertThat(e.getMessage(), is("Size must be greater than or equal to zero"));
+    }
+  }
+
+  @Test
+  public void randomLongs_WithSameSeed_ReturnsSameValuesSequentiallyAndInParallel() {
+    long[] sequential =
+        RandomScope.of(RandomSources.splittableRandom(42))
+            .get(() -> randomLongs(10_000, -10, 10).toArray());
+    long[] parallel =
+        RandomScope.of(RandomSources.splittableRandom(42))
+            .get(() -> randomLongs(10_000, -10, 10).parallel().toArray());
+    assertThat(parallel, equalTo(sequential));
+    assertTrue(Arrays.stream(sequential).allMatch(value -> value >= -10 && value < 10));
+  }
+
+  @Test
+  public void randomDoubles_ReturnsStreamOfGivenSizeWithDoublesBetweenGivenDoubles() {
+    double[] values = randomDoubles(5000, -10, 10).parallel().toArray();
+    assertThat(values.length, is(5000));
+    assertTrue(Arrays.stream(values).allMatch(value -> value >= -10 && value < 10));
+  }
+
+  @Test
+  public void randomDoubles_WithEqualStartAndEnd_ReturnsStreamOfStart() {
+    assertTrue(randomDoubles(100, 1.5, 1.5).allMatch(value -> value == 1.5));
+  }
 }
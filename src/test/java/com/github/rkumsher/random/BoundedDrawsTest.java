@@ -0,0 +1,137 @@
+package com.github.rkumsher.random;
+
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.Assert.*;
+
+import java.math.BigInteger;
+
+import org.junit.Test;
+
+public class BoundedDrawsTest {
+
+  private static final BigInteger UNSIGNED_LONG_MASK =
+      BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+
+  @Test
+  public void unsignedMultiplyHigh_ReturnsHighBitsOfUnsignedProduct() {
+    RandomSource source = RandomSources.xoshiro256(42);
+    long[] edgeCases = {0, 1, -1, Long.MAX_VALUE, Long.MIN_VALUE, 0xffffffffL, 1L << 32};
+    for (long x : edgeCases) {
+      for (long y : edgeCases) {
+        assertThat(BoundedDraws.unsignedMultiplyHigh(x, y), is(expectedMultiplyHigh(x, y)));
+      }
+    }
+    for (int i = 0; i < 10_000; i++) {
+      long x = source.nextLong();
+      long y = source.nextLong();
+      assertThat(BoundedDraws.unsignedMultiplyHigh(x, y), is(expectedMultiplyHigh(x, y)));
+    }
+  }
+
+  @Test
+  public void nextInt_WithFullRange_ReturnsBothNegativeAndPositiveInts() {
+    RandomSource source = RandomSources.xoshiro256(42);
+    boolean negative = false;
+    boolean positive = false;
+    for (int i = 0; i < 100; i++) {
+      int value = BoundedDraws.nextInt(source, Integer.MIN_VALUE, Integer.MAX_VALUE);
+      negative |= value < 0;
+      positive |= value > 0;
+    }
+    assertTrue(negative && positive);
+  }
+
+  @Test
+  public void nextLong_WithFullRange_ReturnsBothNegativeAndPositiveLongs() {
+    RandomSource source = RandomSources.xoshiro256(42);
+    boolean negative = false;
+    boolean positive = false;
+    for (int i = 0; i < 100; i++) {
+      long value = BoundedDraws.nextLong(source, Long.MIN_VALUE, Long.MAX_VALUE);
+      negative |= value < 0;
+      positive |= value > 0;
+    }
+    assertTrue(negative && positive);
+  }
+
+  @Test
+  public void nextLong_WithRangeWiderThanLongMaxValue_ReturnsLongBetweenGivenLongs() {
+    RandomSource source = RandomSources.xoshiro256(42);
+    long start = -10;
+    long end = Long.MAX_VALUE;
+    for (int i = 0; i < 1000; i++) {
+      assertThat(
+          BoundedDraws.nextLong(source, start, end),
+          allOf(greaterThanOrEqualTo(start), lessThan(end)));
+    }
+  }
+
+  @Test
+  public void nextDouble_WithFullRange_ReturnsFiniteDoublesOfBothSigns() {
+    RandomSource source = RandomSources.xoshiro256(42);
+    boolean negative = false;
+    boolean positive = false;
+    for (int i = 0; i < 100; i++) {
+      double value = BoundedDraws.nextDouble(source, -Double.MAX_VALUE, Double.MAX_VALUE);
+      assertTrue(Double.isFinite(value));
+      negative |= value < 0;
+      positive |= value > 0;
+    }
+    assertTrue(negative && positive);
+  }
+
+  @Test
+  public void nextInt_WithSmallRange_ReturnsEveryValueUniformly() {
+    RandomSource source = RandomSources.xoshiro256(42);
+    int[] counts = new int[7];
+    int draws = 70_000;
+    for (int i = 0; i < draws; i++) {
+      counts[BoundedDraws.nextInt(source, 0, counts.length)]++;
+    }
+    for (int count : counts) {
+      assertThat(count, allOf(greaterThanOrEqualTo(9_500), lessThan(10_500)));
+    }
+  }
+
+  @Test
+  public void fill_WithSeededSource_ReturnsSameValuesAsSingleDraws() {
+    long[] array = new long[1000];
+    BoundedDraws.fill(RandomSources.xoshiro256(42), array, 0, array.length, -5, 1_000_000);
+    RandomSource source = RandomSources.xoshiro256(42);
+    for (long value : array) {
+      assertThat(value, is(source.nextLong(-5, 1_000_000)));
+    }
+  }
+
+  @Test
+  public void fill_WithPerThreadSource_FillsOnlyGivenIndexesWithinRange() {
+    int[] array = new int[100];
+    BoundedDraws.fill(RandomSources.xoshiro256(), array, 10, 90, 1, 7);
+    for (int i = 0; i < array.length; i++) {
+      if (i < 10 || i >= 90) {
+        assertThat(array[i], is(0));
+      } else {
+        assertThat(array[i], allOf(greaterThanOrEqualTo(1), lessThan(7)));
+      }
+    }
+  }
+
+  @Test
+  public void fill_WithEndLessThanStart_ThrowsIllegalArgumentException() {
+    try {
+      BoundedDraws.fill(RandomSources.xoshiro256(42), new double[1], 0, 1, 1.0, 0.0);
+      fail("Should have thrown an IllegalArgumentException");
+    } catch (IllegalArgumentException ex) {
+      assertThat(ex.getMessage(), is("End must be greater than or equal to start"));
+    }
+  }
+
+  private static long expectedMultiplyHigh(long x, long y) {
+    BigInteger unsignedX = BigInteger.valueOf(x).and(UNSIGNED_LONG_MASK);
+    BigInteger unsignedY = BigInteger.valueOf(y).and(UNSIGNED_LONG_MASK);
+    return unsignedX.multiply(unsignedY).shiftRight(64).longValue();
+  }
+}
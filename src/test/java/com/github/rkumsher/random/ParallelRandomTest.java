@@ -0,0 +1,82 @@
+package com.github.rkumsher.random;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.*;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+public class ParallelRandomTest {
+
+  @Test
+  public void forEachBlock_GeneratesEveryIndexExactlyOnce() {
+    int size = ParallelRandom.BLOCK_SIZE * 5 + 3;
+    AtomicIntegerArray counts = new AtomicIntegerArray(size);
+    ParallelRandom.forEachBlock(
+        RandomSources.current(),
+        size,
+        (source, from, to) -> {
+          for (int i = from; i < to; i++) {
+            counts.incrementAndGet(i);
+          }
+        });
+    for (int i = 0; i < size; i++) {
+      assertThat(counts.get(i), is(1));
+    }
+  }
+
+  @Test
+  public void forEachBlock_UsesBlockSourceAsCurrentSource() {
+    int size = ParallelRandom.BLOCK_SIZE * 3;
+    boolean[] matches = new boolean[3];
+    ParallelRandom.forEachBlock(
+        RandomSources.current(),
+        size,
+        (source, from, to) ->
+            matches[from / ParallelRandom.BLOCK_SIZE] = RandomSources.current() == source);
+    assertThat(matches, equalTo(new boolean[] {true, true, true}));
+  }
+
+  @Test
+  public void forEachBlock_WithSameSeed_GeneratesSameValues() {
+    long[] first = generate(RandomSources.splittableRandom(42));
+    long[] second = generate(RandomSources.splittableRandom(42));
+    assertThat(first, equalTo(second));
+  }
+
+  @Test
+  public void forEachBlock_WithSizeNearIntegerMaxValue_GeneratesEveryIndexUpToSize() {
+    AtomicLong generated = new AtomicLong();
+    ParallelRandom.forEachBlock(
+        RandomSources.current(),
+        Integer.MAX_VALUE,
+        (source, from, to) -> generated.addAndGet(to - from));
+    assertThat(generated.get(), is((long) Integer.MAX_VALUE));
+  }
+
+  @Test
+  public void forEachBlock_WithNegativeSize_ThrowsIllegalArgumentException() {
+    try {
+      ParallelRandom.forEachBlock(RandomSources.current(), -1, (source, from, to) -> {});
+      fail("Should have thrown an IllegalArgumentException");
+    } catch (IllegalArgumentException ex) {
+      assertThat(ex.getMessage(), is("Size must be greater than or equal to zero"));
+    }
+  }
+
+  private static long[] generate(RandomSource source) {
+    long[] values = new long[ParallelRandom.BLOCK_SIZE * 4 + 7];
+    ParallelRandom.forEachBlock(
+        source,
+        values.length,
+        (blockSource, from, to) -> {
+          for (int i = from; i < to; i++) {
+            values[i] = blockSource.nextLong();
+          }
+        });
+    return values;
+  }
+}
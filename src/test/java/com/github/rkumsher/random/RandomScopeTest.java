@@ -0,0 +1,67 @@
+package com.github.rkumsher.random;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.*;
+
+import org.junit.Test;
+
+import com.github.rkumsher.number.RandomNumberUtils;
+
+public class RandomScopeTest {
+
+  @Test
+  public void of_WithNullSource_ThrowsIllegalArgumentException() {
+    try {
+      RandomScope.of(null);
+      fail("Should have thrown an IllegalArgumentException");
+    } catch (IllegalArgumentException ex) {
+      assertThat(ex.getMessage(), is("Source must be non-null"));
+    }
+  }
+
+  @Test
+  public void get_UsesBoundSourceAsCurrentSource() {
+    RandomSource source = RandomSources.xoshiro256(42);
+    assertThat(RandomScope.of(source).get(RandomSources::current), sameInstance(source));
+  }
+
+  @Test
+  public void get_RestoresPreviousSourceAfterwards() {
+    RandomSource previous = RandomSources.current();
+    RandomScope.of(RandomSources.xoshiro256(42)).get(RandomSources::current);
+    assertThat(RandomSources.current(), sameInstance(previous));
+  }
+
+  @Test
+  public void get_WithNestedScopes_UsesInnermostSource() {
+    RandomScope outer = RandomScope.of(RandomSources.xoshiro256(1));
+    RandomScope inner = RandomScope.of(RandomSources.xoshiro256(2));
+    RandomSource current = outer.get(() -> inner.get(RandomSources::current));
+    assertThat(current, sameInstance(inner.getSource()));
+  }
+
+  @Test
+  public void get_WithSameSeed_ReturnsSameRandomNumbers() {
+    long first = RandomScope.of(RandomSources.xoshiro256(42)).get(RandomNumberUtils::randomLong);
+    long second = RandomScope.of(RandomSources.xoshiro256(42)).get(RandomNumberUtils::randomLong);
+    assertThat(first, is(second));
+  }
+
+  @Test
+  public void split_WithSameSeed_ReturnsScopesWithSameRandomNumbers() {
+    RandomScope first = RandomScope.of(RandomSources.splittableRandom(42)).split();
+    RandomScope second = RandomScope.of(RandomSources.splittableRandom(42)).split();
+    long firstLong = first.get(RandomNumberUtils::randomLong);
+    long secondLong = second.get(RandomNumberUtils::randomLong);
+    assertThat(firstLong, is(secondLong));
+  }
+
+  @Test
+  public void run_UsesBoundSourceAsCurrentSource() {
+    RandomSource source = RandomSources.splittableRandom(42);
+    RandomSource[] current = new RandomSource[1];
+    RandomScope.of(source).run(() -> current[0] = RandomSources.current());
+    assertThat(current[0], sameInstance(source));
+  }
+}
@@ -0,0 +1,232 @@
+package com.github.rkumsher.random;
+
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.*;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.IntStream;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class RandomSourcesTest {
+
+  @After
+  public void resetDefault() {
+    RandomSources.setDefault(RandomSources.threadLocalRandom());
+  }
+
+  @Test
+  public void getDefault_ReturnsThreadLocalRandom() {
+    assertThat(RandomSources.getDefault(), sameInstance(RandomSources.threadLocalRandom()));
+  }
+
+  @Test
+  public void setDefault_ChangesCurrentSource() {
+    RandomSource source = RandomSources.xoshiro256();
+    RandomSources.setDefault(source);
+    assertThat(RandomSources.current(), sameInstance(source));
+  }
+
+  @Test
+  public void setDefault_WithNullSource_ThrowsIllegalArgumentException() {
+    try {
+      RandomSources.setDefault(null);
+      fail("Should have thrown an IllegalArgumentException");
+    } catch (IllegalArgumentException ex) {
+      assertThat(ex.getMessage(), is("Source must be non-null"));
+    }
+  }
+
+  @Test
+  public void splittableRandom_WithSameSeed_ReturnsSameValues() {
+    RandomSource first = RandomSources.splittableRandom(42);
+    RandomSource second = RandomSources.splittableRandom(42);
+    for (int i = 0; i < 100; i++) {
+      assertThat(first.nextLong(), is(second.nextLong()));
+    }
+  }
+
+  @Test
+  public void xoshiro256_WithSameSeed_ReturnsSameValues() {
+    RandomSource first = RandomSources.xoshiro256(42);
+    RandomSource second = RandomSources.xoshiro256(42);
+    for (int i = 0; i < 100; i++) {
+      assertThat(first.nextLong(), is(second.nextLong()));
+    }
+  }
+
+  @Test
+  public void xoshiro256_WithDifferentSeeds_ReturnsDifferentValues() {
+    assertThat(
+        RandomSources.xoshiro256(1).nextLong(), not(RandomSources.xoshiro256(2).nextLong()));
+  }
+
+  @Test
+  public void split_WithSameSeed_ReturnsSourcesWithSameValues() {
+    RandomSource[] sources = seededSources(42);
+    RandomSource[] sameSources = seededSources(42);
+    for (int i = 0; i < sources.length; i++) {
+      RandomSource child = sources[i].split();
+      RandomSource sameChild = sameSources[i].split();
+      for (int j = 0; j < 100; j++) {
+        assertThat(child.nextLong(), is(sameChild.nextLong()));
+      }
+    }
+  }
+
+  @Test
+  public void split_ReturnsSourceIndependentOfParent() {
+    for (RandomSource source : seededSources(42)) {
+      RandomSource child = source.split();
+      assertThat(child.nextLong(), not(source.nextLong()));
+    }
+  }
+
+  @Test
+  public void split_OfSplitSource_ReturnsSourcesIndependentOfEachOther() {
+    for (RandomSource parent : seededSources(42)) {
+      RandomSource child = parent.split();
+      RandomSource grandchild = child.split();
+      RandomSource sibling = parent.split();
+      int collisions = 0;
+      for (int i = 0; i < 1000; i++) {
+        long value = parent.nextLong();
+        long childValue = child.nextLong();
+        long grandchildValue = grandchild.nextLong();
+        long siblingValue = sibling.nextLong();
+        if (value == childValue
+            || value == grandchildValue
+            || value == siblingValue
+            || childValue == grandchildValue
+            || childValue == siblingValue
+            || grandchildValue == siblingValue) {
+          collisions++;
+        }
+      }
+      assertThat(collisions, is(0));
+    }
+  }
+
+  @Test
+  public void split_WithForkJoinTasks_ReturnsSameValuesAsSequentialRun() {
+    long sequential = new RandomSumTask(RandomSources.splittableRandom(42), 0, 10_000).compute();
+    long parallel =
+        new ForkJoinPool(4)
+            .invoke(new RandomSumTask(RandomSources.splittableRandom(42), 0, 10_000));
+    assertThat(parallel, is(sequential));
+  }
+
+  @Test
+  public void splittableRandom_WithSameSeedAndStreamIndex_ReturnsSameValues() {
+    RandomSource first = RandomSources.splittableRandom(42, 7);
+    RandomSource second = RandomSources.splittableRandom(42, 7);
+    for (int i = 0; i < 100; i++) {
+      assertThat(first.nextLong(), is(second.nextLong()));
+    }
+  }
+
+  @Test
+  public void splittableRandom_WithDifferentStreamIndexes_ReturnsDifferentValues() {
+    assertThat(
+        RandomSources.splittableRandom(42, 0).nextLong(),
+        not(RandomSources.splittableRandom(42, 1).nextLong()));
+  }
+
+  @Test
+  public void splittableRandom_WithStreamPerIndex_ReturnsSameValuesInParallel() {
+    int[] sequential =
+        IntStream.range(0, 10_000)
+            .map(i -> RandomSources.splittableRandom(42, i).nextInt(0, 100))
+            .toArray();
+    int[] parallel =
+        IntStream.range(0, 10_000)
+            .parallel()
+            .map(i -> RandomSources.splittableRandom(42, i).nextInt(0, 100))
+            .toArray();
+    assertThat(parallel, equalTo(sequential));
+  }
+
+  @Test
+  public void nextInt_ReturnsIntBetweenGivenInts() {
+    for (RandomSource source : allSources()) {
+      assertThat(source.nextInt(-10, 10), allOf(greaterThanOrEqualTo(-10), lessThan(10)));
+    }
+  }
+
+  @Test
+  public void nextLong_ReturnsLongBetweenGivenLongs() {
+    for (RandomSource source : allSources()) {
+      assertThat(source.nextLong(-10, 10), allOf(greaterThanOrEqualTo(-10L), lessThan(10L)));
+    }
+  }
+
+  @Test
+  public void nextDouble_ReturnsDoubleBetweenZeroAndOne() {
+    for (RandomSource source : allSources()) {
+      assertThat(source.nextDouble(), allOf(greaterThanOrEqualTo(0d), lessThan(1d)));
+    }
+  }
+
+  @Test
+  public void nextInt_WithStartEqualToEnd_ThrowsIllegalArgumentException() {
+    try {
+      RandomSources.threadLocalRandom().nextInt(10, 10);
+      fail("Should have thrown an IllegalArgumentException");
+    } catch (IllegalArgumentException ex) {
+      assertThat(ex.getMessage(), is("End must be greater than start"));
+    }
+  }
+
+  private static RandomSource[] seededSources(long seed) {
+    return new RandomSource[] {
+      RandomSources.splittableRandom(seed), RandomSources.xoshiro256(seed)
+    };
+  }
+
+  private static class RandomSumTask extends RecursiveTask<Long> {
+
+    private final RandomSource source;
+    private final int start;
+    private final int end;
+
+    RandomSumTask(RandomSource source, int start, int end) {
+      this.source = source;
+      this.start = start;
+      this.end = end;
+    }
+
+    @Override
+    protected Long compute() {
+      if (end - start <= 100) {
+        long sum = 0;
+        for (int i = start; i < end; i++) {
+          sum += source.nextInt(0, 1000);
+        }
+        return sum;
+      }
+      int middle = (start + end) >>> 1;
+      RandomSumTask left = new RandomSumTask(source.split(), start, middle);
+      RandomSumTask right = new RandomSumTask(source, middle, end);
+      left.fork();
+      return right.compute() + left.join();
+    }
+  }
+
+  private static RandomSource[] allSources() {
+    return new RandomSource[] {
+      RandomSources.threadLocalRandom(),
+      RandomSources.splittableRandom(),
+      RandomSources.splittableRandom(42),
+      RandomSources.xoshiro256(),
+      RandomSources.xoshiro256(42)
+    };
+  }
+}